@@ -6,5 +6,6 @@ package net.democracycraft.democracyLib.api.bootstrap.contract;
 public enum BridgeNamespace {
     DEMOCRACY_LIB_API,
     DEMOCRACY_SERVICE_MANAGER,
-    DEMOCRACY_CONFIG_MANAGER
+    DEMOCRACY_CONFIG_MANAGER,
+    MOJANG_SERVICE
 }
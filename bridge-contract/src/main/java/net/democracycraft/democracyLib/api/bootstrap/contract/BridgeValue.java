@@ -0,0 +1,28 @@
+package net.democracycraft.democracyLib.api.bootstrap.contract;
+
+import java.lang.annotation.*;
+
+/**
+ * Marks a DTO that crosses the reflection bridge by value.
+ * <p>
+ * A codec is generated into {@code GeneratedBridgeValues}: the leader encodes instances into JDK-only maps and
+ * the follower decodes them into its own copy of the type. Transferred fields are the accessors named by the
+ * parameters of {@link #factory()}, or the components of a record. Their types must be primitives, boxed
+ * primitives, {@code String}, {@code UUID}, {@code byte[]}, {@code List} or another {@link BridgeValue}.
+ * <p>
+ * This annotation is intended for build-time contract generation.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.SOURCE)
+public @interface BridgeValue {
+
+    /**
+     * Stable id written with every encoded value. Defaults to the type's simple name.
+     */
+    String value() default "";
+
+    /**
+     * Static factory used to re-create the value. Ignored for records, which use their canonical constructor.
+     */
+    String factory() default "of";
+}
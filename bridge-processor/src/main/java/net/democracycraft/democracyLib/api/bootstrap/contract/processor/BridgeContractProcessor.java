@@ -23,13 +23,19 @@ import java.util.stream.Collectors;
  * This processor scans bridge APIs/methods annotated with {@link BridgeApi}/{@link BridgeMethod}
  * and generates a deterministic contract class with method identifiers and signatures.
  * <p>
+ * For every bridge API it also generates a follower stub ({@code <Api>BridgeStub}) that implements the
+ * interface by calling the leader's methods through exact-typed method handles, instead of a dynamic proxy.
+ * <p>
+ * Types annotated with {@link BridgeValue} get codecs in {@code GeneratedBridgeValues}, which move them across
+ * classloaders as maps of JDK types.
  */
 @SupportedAnnotationTypes({
         "net.democracycraft.democracyLib.api.bootstrap.contract.BridgeApi",
         "net.democracycraft.democracyLib.api.bootstrap.contract.BridgeMethod",
         "net.democracycraft.democracyLib.api.bootstrap.contract.BridgeAnchorKey",
         "net.democracycraft.democracyLib.api.bootstrap.contract.BridgeContractVersion",
-        "net.democracycraft.democracyLib.api.bootstrap.contract.BridgeOverloadKey"
+        "net.democracycraft.democracyLib.api.bootstrap.contract.BridgeOverloadKey",
+        "net.democracycraft.democracyLib.api.bootstrap.contract.BridgeValue"
 })
 @SupportedSourceVersion(SourceVersion.RELEASE_21)
 public final class BridgeContractProcessor extends AbstractProcessor {
@@ -37,6 +43,16 @@ public final class BridgeContractProcessor extends AbstractProcessor {
     private static final String GENERATED_PKG = "net.democracycraft.democracyLib.api.bootstrap";
     private static final String GENERATED_NAME = "GeneratedBridgeContract";
     private static final String GENERATED_IDS_NAME = "GeneratedBridgeIds";
+    private static final String STUB_SUFFIX = "BridgeStub";
+    private static final String GENERATED_VALUES_NAME = "GeneratedBridgeValues";
+
+    /**
+     * Field types a {@link BridgeValue} may carry as-is: every classloader shares them.
+     */
+    private static final Set<String> JDK_VALUE_TYPES = Set.of(
+            "java.lang.String", "java.util.UUID",
+            "java.lang.Boolean", "java.lang.Byte", "java.lang.Short", "java.lang.Integer",
+            "java.lang.Long", "java.lang.Character", "java.lang.Float", "java.lang.Double");
 
     private Types types;
     private Elements elements;
@@ -55,14 +71,16 @@ public final class BridgeContractProcessor extends AbstractProcessor {
         Map<String, AnchorKey> anchorKeys = collectAnchorKeys(roundEnvironment);
         List<ApiSurface> apis = collectApis(roundEnvironment);
         Integer protocol = collectProtocolVersion(roundEnvironment);
+        List<ValueSurface> values = collectValues(roundEnvironment);
 
-        if (anchorKeys.isEmpty() && apis.isEmpty() && protocol == null) {
+        if (anchorKeys.isEmpty() && apis.isEmpty() && protocol == null && values.isEmpty()) {
             return false;
         }
 
         // validate contract determinism and prevent ambiguous/duplicate ids.
         boolean ok = validateNoDuplicateContractIds(apis);
         ok &= validateOverloadPolicies(apis);
+        ok &= values.stream().allMatch(value -> value.valid);
         if (!ok) {
             return false;
         }
@@ -70,6 +88,10 @@ public final class BridgeContractProcessor extends AbstractProcessor {
         try {
             writeGenerated(anchorKeys, apis, protocol);
             writeGeneratedIds(apis);
+            for (ApiSurface api : apis) {
+                writeStub(api);
+            }
+            writeGeneratedValues(values);
         } catch (Exception e) {
             processingEnv.getMessager()
                     .printMessage(Diagnostic.Kind.ERROR, "Failed generating " + GENERATED_NAME + ": " + e.getMessage());
@@ -185,6 +207,7 @@ public final class BridgeContractProcessor extends AbstractProcessor {
             BridgeNamespace namespace = typeElement.getAnnotation(BridgeApi.class).value();
             ApiSurface apiSurface = new ApiSurface(namespace.name());
             apiSurface.typeFqn = elements.getBinaryName(typeElement).toString();
+            apiSurface.type = typeElement;
 
             for (Element enclosedElement : typeElement.getEnclosedElements()) {
                 if (enclosedElement.getKind() != ElementKind.METHOD) continue;
@@ -249,6 +272,103 @@ public final class BridgeContractProcessor extends AbstractProcessor {
         return methodSpec;
     }
 
+    private List<ValueSurface> collectValues(RoundEnvironment roundEnvironment) {
+        Map<String, ValueSurface> valuesById = new TreeMap<>();
+        for (Element element : roundEnvironment.getElementsAnnotatedWith(BridgeValue.class)) {
+            if (!(element instanceof TypeElement typeElement)) continue;
+
+            BridgeValue bridgeValue = typeElement.getAnnotation(BridgeValue.class);
+            String id = bridgeValue.value().isBlank() ? typeElement.getSimpleName().toString() : bridgeValue.value().trim();
+            ValueSurface value = new ValueSurface(id, typeElement);
+
+            if (typeElement.getKind() == ElementKind.RECORD) {
+                value.record = true;
+                for (RecordComponentElement component : typeElement.getRecordComponents()) {
+                    value.fields.add(new ValueField(component.getSimpleName().toString(), component.asType(), component.asType()));
+                }
+            } else {
+                collectFactoryFields(value, bridgeValue.factory());
+            }
+
+            for (ValueField field : value.fields) {
+                if (fieldKind(field.accessorType) == null) {
+                    error(typeElement, "@BridgeValue field " + field.name + " has unsupported type " + field.accessorType
+                            + "; use primitives, String, UUID, byte[], List or another @BridgeValue.");
+                    value.valid = false;
+                }
+            }
+
+            ValueSurface previous = valuesById.putIfAbsent(id, value);
+            if (previous != null) {
+                error(typeElement, "Duplicate @BridgeValue id '" + id + "'. Also used by " + previous.type.getQualifiedName() + ".");
+                value.valid = false;
+                previous.valid = false;
+            }
+        }
+        return new ArrayList<>(valuesById.values());
+    }
+
+    /**
+     * Fields of a non-record value: one per factory parameter, read through the accessor of the same name.
+     */
+    private void collectFactoryFields(ValueSurface value, String factoryName) {
+        ExecutableElement factory = null;
+        for (Element enclosed : value.type.getEnclosedElements()) {
+            if (enclosed.getKind() == ElementKind.METHOD
+                    && enclosed.getSimpleName().contentEquals(factoryName)
+                    && enclosed.getModifiers().contains(Modifier.STATIC)
+                    && !enclosed.getModifiers().contains(Modifier.PRIVATE)) {
+                factory = (ExecutableElement) enclosed;
+                break;
+            }
+        }
+        if (factory == null) {
+            error(value.type, "@BridgeValue type needs a static factory '" + factoryName + "' or must be a record.");
+            value.valid = false;
+            return;
+        }
+        value.factory = factoryName;
+
+        for (VariableElement parameter : factory.getParameters()) {
+            String name = parameter.getSimpleName().toString();
+            ExecutableElement accessor = null;
+            for (Element member : elements.getAllMembers(value.type)) {
+                if (member.getKind() == ElementKind.METHOD
+                        && member.getSimpleName().contentEquals(name)
+                        && !member.getModifiers().contains(Modifier.STATIC)
+                        && ((ExecutableElement) member).getParameters().isEmpty()) {
+                    accessor = (ExecutableElement) member;
+                    break;
+                }
+            }
+            if (accessor == null || !types.isAssignable(accessor.getReturnType(), parameter.asType())) {
+                error(factory, "@BridgeValue factory parameter " + name + " needs a matching accessor " + name + "().");
+                value.valid = false;
+                continue;
+            }
+            value.fields.add(new ValueField(name, accessor.getReturnType(), parameter.asType()));
+        }
+    }
+
+    /**
+     * {@code SCALAR} fields are copied as-is, {@code NESTED} ones go through the codec again; {@code null} if unsupported.
+     */
+    private FieldKind fieldKind(TypeMirror type) {
+        TypeMirror erased = types.erasure(type);
+        if (erased.getKind().isPrimitive()) return FieldKind.SCALAR;
+        if (erased.getKind() == TypeKind.ARRAY) {
+            return ((ArrayType) erased).getComponentType().getKind() == TypeKind.BYTE ? FieldKind.SCALAR : null;
+        }
+        if (erased.getKind() != TypeKind.DECLARED || !(((DeclaredType) erased).asElement() instanceof TypeElement typeElement)) {
+            return null;
+        }
+
+        String name = typeElement.getQualifiedName().toString();
+        if (JDK_VALUE_TYPES.contains(name)) return FieldKind.SCALAR;
+        if (name.equals("java.util.List") || typeElement.getAnnotation(BridgeValue.class) != null) return FieldKind.NESTED;
+        return null;
+    }
+
     private Integer collectProtocolVersion(RoundEnvironment roundEnvironment) {
         Integer protocol = null;
         for (Element element : roundEnvironment.getElementsAnnotatedWith(BridgeContractVersion.class)) {
@@ -316,12 +436,30 @@ public final class BridgeContractProcessor extends AbstractProcessor {
         out.line("private Methods() {}");
         out.line("");
 
-        for (MethodSpec methodSpec : allMethods) {
+        for (int index = 0; index < allMethods.size(); index++) {
+            MethodSpec methodSpec = allMethods.get(index);
             String constSeed = methodSpec.namespace + "_" + methodSpec.javaName + "_" + methodSpec.paramTypeFqns.size();
             methodSpec.constName = toConstName(constSeed, methodSpec.id);
+            methodSpec.index = index;
             out.line("public static final String " + methodSpec.constName + " = \"" + escapeJava(methodSpec.id) + "\";");
         }
 
+        out.line("");
+        out.line("/**");
+        out.line(" * Number of contract methods. Indices ({@code GeneratedBridgeIds.<Api>.Index}) run from 0 to COUNT - 1;");
+        out.line(" * they are local to this build and must never be passed across the bridge, unlike the string ids.");
+        out.line(" */");
+        out.line("public static final int COUNT = " + allMethods.size() + ";");
+        out.line("");
+        out.line("private static final String[] IDS = {");
+        out.indent();
+        for (MethodSpec methodSpec : allMethods) {
+            out.line(methodSpec.constName + ",");
+        }
+        out.unindent();
+        out.line("};");
+        out.line("");
+        out.line("private static final Spec[] SPECS_BY_INDEX = new Spec[COUNT];");
         out.line("");
         out.line("public static final Map<String, Spec> SPECS;");
         out.line("static {");
@@ -341,6 +479,11 @@ public final class BridgeContractProcessor extends AbstractProcessor {
         }
 
         out.line("SPECS = Collections.unmodifiableMap(methods);");
+        out.line("for (int index = 0; index < COUNT; index++) {");
+        out.indent();
+        out.line("SPECS_BY_INDEX[index] = methods.get(IDS[index]);");
+        out.unindent();
+        out.line("}");
         out.unindent();
         out.line("}");
         out.line("");
@@ -349,6 +492,18 @@ public final class BridgeContractProcessor extends AbstractProcessor {
         out.line("return SPECS.get(id);");
         out.unindent();
         out.line("}");
+        out.line("");
+        out.line("public static Spec spec(int index) {");
+        out.indent();
+        out.line("return SPECS_BY_INDEX[index];");
+        out.unindent();
+        out.line("}");
+        out.line("");
+        out.line("public static String id(int index) {");
+        out.indent();
+        out.line("return IDS[index];");
+        out.unindent();
+        out.line("}");
 
         out.unindent();
         out.line("}");
@@ -384,26 +539,40 @@ public final class BridgeContractProcessor extends AbstractProcessor {
                             .thenComparing(m -> String.join(",", m.paramTypeFqns)))
                     .toList();
 
-            String currentNamespace = null;
+            Map<String, List<MethodSpec>> byNamespace = new LinkedHashMap<>();
             for (MethodSpec m : allMethods) {
-                if (!Objects.equals(currentNamespace, m.namespace)) {
-                    if (currentNamespace != null) {
-                        out.unindent();
-                        out.line("}");
-                        out.line("");
-                    }
-                    currentNamespace = m.namespace;
-                    out.line("public static final class " + namespaceClassName(currentNamespace) + " {");
-                    out.indent();
-                    out.line("private " + namespaceClassName(currentNamespace) + "() {}");
-                    out.line("");
+                byNamespace.computeIfAbsent(m.namespace, ignored -> new ArrayList<>()).add(m);
+            }
+
+            boolean first = true;
+            for (Map.Entry<String, List<MethodSpec>> namespace : byNamespace.entrySet()) {
+                if (!first) out.line("");
+                first = false;
+
+                String className = namespaceClassName(namespace.getKey());
+                out.line("public static final class " + className + " {");
+                out.indent();
+                out.line("private " + className + "() {}");
+                out.line("");
+
+                for (MethodSpec m : namespace.getValue()) {
+                    out.line("public static final String " + aliasFieldName(m) + " = \"" + escapeJava(m.id) + "\";");
                 }
 
-                String fieldName = aliasFieldName(m);
-                out.line("public static final String " + fieldName + " = \"" + escapeJava(m.id) + "\";");
-            }
+                out.line("");
+                out.line("/**");
+                out.line(" * Indices into {@link GeneratedBridgeContract.Methods}, for array-backed handle caches.");
+                out.line(" */");
+                out.line("public static final class Index {");
+                out.indent();
+                out.line("private Index() {}");
+                out.line("");
+                for (MethodSpec m : namespace.getValue()) {
+                    out.line("public static final int " + aliasFieldName(m) + " = " + m.index + ";");
+                }
+                out.unindent();
+                out.line("}");
 
-            if (currentNamespace != null) {
                 out.unindent();
                 out.line("}");
             }
@@ -413,6 +582,351 @@ public final class BridgeContractProcessor extends AbstractProcessor {
         }
     }
 
+    private void writeGeneratedValues(List<ValueSurface> values) throws IOException {
+        Element[] origins = values.stream().map(value -> value.type).toArray(Element[]::new);
+        JavaFileObject file = processingEnv.getFiler().createSourceFile(GENERATED_PKG + "." + GENERATED_VALUES_NAME, origins);
+        try (Writer writer = file.openWriter()) {
+            CodeWriter out = new CodeWriter(writer);
+
+            out.line("package " + GENERATED_PKG + ";");
+            out.line("");
+            out.line("import java.util.ArrayList;");
+            out.line("import java.util.HashMap;");
+            out.line("import java.util.List;");
+            out.line("import java.util.Map;");
+            out.line("");
+            out.line("/**");
+            out.line(" * GENERATED FILE. DO NOT EDIT.");
+            out.line(" * <p>");
+            out.line(" * Codecs for the bridge value types. {@link #encode} turns them into maps of JDK types tagged with");
+            out.line(" * {@link #TYPE_KEY}, which any classloader can read; {@link #decode} re-creates them as this classloader's types.");
+            out.line(" * Lists are converted element by element; anything else passes through unchanged.");
+            out.line(" * Generated by " + BridgeContractProcessor.class.getName() + ".");
+            out.line(" */");
+            out.line("@SuppressWarnings({\"rawtypes\", \"unchecked\"})");
+            out.line("public final class " + GENERATED_VALUES_NAME + " {");
+            out.indent();
+            out.line("");
+            out.line("public static final String TYPE_KEY = \"@type\";");
+            out.line("");
+            out.line("public static final List<String> IDS = List.of(" + values.stream()
+                    .map(value -> "\"" + escapeJava(value.id) + "\"")
+                    .collect(Collectors.joining(", ")) + ");");
+            out.line("");
+            out.line("private " + GENERATED_VALUES_NAME + "() {}");
+            out.line("");
+
+            out.line("/**");
+            out.line(" * Whether {@code value} already is one of this classloader's bridge value types, and needs no transfer.");
+            out.line(" */");
+            out.line("public static boolean isLocal(Object value) {");
+            out.indent();
+            out.line("return " + (values.isEmpty() ? "false" : values.stream()
+                    .map(value -> "value instanceof " + value.type.getQualifiedName())
+                    .collect(Collectors.joining(" || "))) + ";");
+            out.unindent();
+            out.line("}");
+            out.line("");
+
+            out.line("public static Object encode(Object value) {");
+            out.indent();
+            for (int index = 0; index < values.size(); index++) {
+                out.line("if (value instanceof " + values.get(index).type.getQualifiedName() + " v) return encode" + index + "(v);");
+            }
+            out.line("if (value instanceof List list) return convertList(list, true);");
+            out.line("return value;");
+            out.unindent();
+            out.line("}");
+            out.line("");
+
+            out.line("public static Object decode(Object value) {");
+            out.indent();
+            out.line("if (value instanceof Map fields && fields.get(TYPE_KEY) instanceof String type) {");
+            out.indent();
+            out.line("return switch (type) {");
+            out.indent();
+            for (int index = 0; index < values.size(); index++) {
+                out.line("case \"" + escapeJava(values.get(index).id) + "\" -> decode" + index + "(fields);");
+            }
+            out.line("default -> value;");
+            out.unindent();
+            out.line("};");
+            out.unindent();
+            out.line("}");
+            out.line("if (value instanceof List list) return convertList(list, false);");
+            out.line("return value;");
+            out.unindent();
+            out.line("}");
+
+            for (int index = 0; index < values.size(); index++) {
+                writeValueCodec(out, values.get(index), index);
+            }
+
+            out.line("");
+            out.line("private static List convertList(List list, boolean encode) {");
+            out.indent();
+            out.line("List copy = null;");
+            out.line("for (int i = 0; i < list.size(); i++) {");
+            out.indent();
+            out.line("Object element = list.get(i);");
+            out.line("Object converted = encode ? encode(element) : decode(element);");
+            out.line("if (converted != element && copy == null) copy = new ArrayList(list.subList(0, i));");
+            out.line("if (copy != null) copy.add(converted);");
+            out.unindent();
+            out.line("}");
+            out.line("return copy == null ? list : copy;");
+            out.unindent();
+            out.line("}");
+
+            out.unindent();
+            out.line("}");
+        }
+    }
+
+    private void writeValueCodec(CodeWriter out, ValueSurface value, int index) throws IOException {
+        String typeName = value.type.getQualifiedName().toString();
+
+        out.line("");
+        out.line("private static Map<String, Object> encode" + index + "(" + typeName + " value) {");
+        out.indent();
+        out.line("Map<String, Object> fields = new HashMap<>();");
+        out.line("fields.put(TYPE_KEY, \"" + escapeJava(value.id) + "\");");
+        for (ValueField field : value.fields) {
+            String read = "value." + field.name + "()";
+            if (fieldKind(field.accessorType) == FieldKind.NESTED) read = "encode(" + read + ")";
+            out.line("fields.put(\"" + field.name + "\", " + read + ");");
+        }
+        out.line("return fields;");
+        out.unindent();
+        out.line("}");
+        out.line("");
+
+        out.line("private static " + typeName + " decode" + index + "(Map fields) {");
+        out.indent();
+        List<String> arguments = new ArrayList<>();
+        for (ValueField field : value.fields) {
+            TypeMirror type = types.erasure(field.parameterType);
+            String read = "fields.get(\"" + field.name + "\")";
+            if (fieldKind(field.accessorType) == FieldKind.NESTED) read = "decode(" + read + ")";
+            String cast = type.getKind().isPrimitive() ? boxedName(type.getKind()) : sourceType(type);
+            arguments.add("(" + cast + ") " + read);
+        }
+        String creation = value.record ? "new " + typeName : typeName + "." + value.factory;
+        out.line("return " + creation + "(" + String.join(", ", arguments) + ");");
+        out.unindent();
+        out.line("}");
+    }
+
+    private void writeStub(ApiSurface api) throws IOException {
+        TypeElement apiType = api.type;
+        String apiName = apiType.getQualifiedName().toString();
+        String stubName = apiType.getSimpleName() + STUB_SUFFIX;
+        List<ExecutableElement> methods = stubMethods(apiType);
+
+        JavaFileObject file = processingEnv.getFiler().createSourceFile(GENERATED_PKG + "." + stubName, apiType);
+        try (Writer writer = file.openWriter()) {
+            CodeWriter out = new CodeWriter(writer);
+
+            out.line("package " + GENERATED_PKG + ";");
+            out.line("");
+            out.line("import java.lang.invoke.MethodHandle;");
+            out.line("import java.lang.invoke.MethodType;");
+            out.line("import java.lang.reflect.UndeclaredThrowableException;");
+            out.line("import java.util.List;");
+            out.line("");
+            out.line("/**");
+            out.line(" * GENERATED FILE. DO NOT EDIT.");
+            out.line(" * <p>");
+            out.line(" * Follower stub for {@link " + apiName + "}.");
+            out.line(" * Every method calls the leader's implementation");
+            out.line(" * through a method handle invoked exactly, with no argument arrays and no proxy dispatch.");
+            out.line(" * Handles are passed in the order of {@link #TARGET_METHODS}; index constants name each slot.");
+            out.line(" * Generated by " + BridgeContractProcessor.class.getName() + ".");
+            out.line(" */");
+            // Methods are implemented with their erased signatures, so the stub implements the raw interface.
+            out.line("@SuppressWarnings({\"rawtypes\", \"unchecked\"})");
+            out.line("public class " + stubName + " implements " + apiName + " {");
+            out.indent();
+            out.line("");
+
+            List<String> slotNames = new ArrayList<>(methods.size());
+            for (int index = 0; index < methods.size(); index++) {
+                String slotName = aliasFieldName(methods.get(index).getSimpleName().toString(), paramTypeFqns(methods.get(index)));
+                slotNames.add(slotName);
+                out.line("public static final int " + slotName + " = " + index + ";");
+            }
+            out.line("");
+
+            out.line("/**");
+            out.line(" * Leader methods backing each slot, matched by name and erased parameter types.");
+            out.line(" */");
+            out.line("public static final List<GeneratedBridgeContract.Spec> TARGET_METHODS = List.of(");
+            out.indent();
+            for (int index = 0; index < methods.size(); index++) {
+                ExecutableElement method = methods.get(index);
+                String params = paramTypeFqns(method).stream()
+                        .map(param -> "\"" + escapeJava(param) + "\"")
+                        .collect(Collectors.joining(", "));
+                BridgeMethod bridgeMethod = method.getAnnotation(BridgeMethod.class);
+                int sinceProtocol = bridgeMethod != null ? bridgeMethod.sinceProtocol() : 1;
+                out.line("new GeneratedBridgeContract.Spec(\"" + escapeJava(method.getSimpleName().toString()) + "\", List.of(" + params + "), \"" +
+                        escapeJava(eraseToFqn(method.getReturnType())) + "\", \"" + escapeJava(api.namespace) + "\", " + sinceProtocol + ")" +
+                        (index + 1 < methods.size() ? "," : ""));
+            }
+            out.unindent();
+            out.line(");");
+            out.line("");
+
+            out.line("protected final Object target;");
+            for (int index = 0; index < methods.size(); index++) {
+                out.line("private final MethodHandle h" + index + ";");
+            }
+            out.line("");
+
+            out.line("/**");
+            out.line(" * @param target  the leader's service instance.");
+            out.line(" * @param handles direct handles to the target's methods, receiver first, in {@link #TARGET_METHODS} order.");
+            out.line(" */");
+            out.line("public " + stubName + "(Object target, MethodHandle[] handles) {");
+            out.indent();
+            out.line("if (handles.length != " + methods.size() + ") {");
+            out.indent();
+            out.line("throw new IllegalArgumentException(\"Expected " + methods.size() + " handles but got \" + handles.length);");
+            out.unindent();
+            out.line("}");
+            out.line("this.target = target;");
+            for (int index = 0; index < methods.size(); index++) {
+                // (Object receiver, Object... args)Object, so the call sites below match exactly.
+                out.line("this.h" + index + " = handles[" + index + "].asType(MethodType.genericMethodType(" + (methods.get(index).getParameters().size() + 1) + "));");
+            }
+            out.unindent();
+            out.line("}");
+            out.line("");
+
+            out.line("/**");
+            out.line(" * Hook to convert leader results (e.g. DTOs from the leader's classloader) before they are returned.");
+            out.line(" *");
+            out.line(" * @param slot index constant of the called method.");
+            out.line(" */");
+            out.line("protected Object adapt(int slot, Object result) {");
+            out.indent();
+            out.line("return result;");
+            out.unindent();
+            out.line("}");
+
+            for (int index = 0; index < methods.size(); index++) {
+                out.line("");
+                writeStubMethod(out, methods.get(index), index, slotNames.get(index));
+            }
+
+            out.unindent();
+            out.line("}");
+        }
+    }
+
+    private void writeStubMethod(CodeWriter out, ExecutableElement method, int index, String slotName) throws IOException {
+        List<? extends VariableElement> parameters = method.getParameters();
+        StringBuilder declaration = new StringBuilder("public ")
+                .append(sourceType(method.getReturnType())).append(' ')
+                .append(method.getSimpleName()).append('(');
+        StringBuilder arguments = new StringBuilder("target");
+        for (int p = 0; p < parameters.size(); p++) {
+            if (p > 0) declaration.append(", ");
+            declaration.append(sourceType(parameters.get(p).asType())).append(" p").append(p);
+            arguments.append(", (Object) p").append(p);
+        }
+        declaration.append(')');
+
+        List<String> thrown = method.getThrownTypes().stream().map(this::sourceType).toList();
+        if (!thrown.isEmpty()) {
+            declaration.append(" throws ").append(String.join(", ", thrown));
+        }
+
+        out.line("@Override");
+        out.line(declaration + " {");
+        out.indent();
+        out.line("Object result;");
+        out.line("try {");
+        out.indent();
+        out.line("result = (Object) h" + index + ".invokeExact(" + arguments + ");");
+        out.unindent();
+        out.line("} catch (RuntimeException | Error e) {");
+        out.indent();
+        out.line("throw e;");
+        out.unindent();
+        out.line("} catch (Throwable t) {");
+        out.indent();
+        for (String checked : thrown) {
+            out.line("if (t instanceof " + checked + ") throw (" + checked + ") t;");
+        }
+        out.line("throw new UndeclaredThrowableException(t);");
+        out.unindent();
+        out.line("}");
+
+        TypeKind returnKind = method.getReturnType().getKind();
+        if (returnKind == TypeKind.VOID) {
+            out.line("adapt(" + slotName + ", result);");
+        } else if (returnKind.isPrimitive()) {
+            out.line("return (" + boxedName(returnKind) + ") adapt(" + slotName + ", result);");
+        } else {
+            out.line("return (" + sourceType(method.getReturnType()) + ") adapt(" + slotName + ", result);");
+        }
+        out.unindent();
+        out.line("}");
+    }
+
+    /**
+     * Every abstract method of the API, including inherited ones, once per erased signature, in a stable order.
+     */
+    private List<ExecutableElement> stubMethods(TypeElement apiType) {
+        Map<String, ExecutableElement> bySignature = new TreeMap<>();
+        for (Element member : elements.getAllMembers(apiType)) {
+            if (member.getKind() != ElementKind.METHOD) continue;
+            if (!member.getModifiers().contains(Modifier.ABSTRACT) || member.getModifiers().contains(Modifier.STATIC)) continue;
+            ExecutableElement method = (ExecutableElement) member;
+            bySignature.putIfAbsent(method.getSimpleName() + "(" + String.join(",", paramTypeFqns(method)) + ")", method);
+        }
+        return new ArrayList<>(bySignature.values());
+    }
+
+    private List<String> paramTypeFqns(ExecutableElement method) {
+        return method.getParameters().stream()
+                .map(parameter -> eraseToFqn(parameter.asType()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Erased type as it is written in source: canonical names, no type arguments or type annotations.
+     */
+    private String sourceType(TypeMirror type) {
+        TypeMirror erased = types.erasure(type);
+        TypeKind kind = erased.getKind();
+        if (kind.isPrimitive() || kind == TypeKind.VOID) {
+            return kind.name().toLowerCase(Locale.ROOT);
+        }
+        if (kind == TypeKind.ARRAY) {
+            return sourceType(((ArrayType) erased).getComponentType()) + "[]";
+        }
+        if (kind == TypeKind.DECLARED && ((DeclaredType) erased).asElement() instanceof TypeElement typeElement) {
+            return typeElement.getQualifiedName().toString();
+        }
+        return "java.lang.Object";
+    }
+
+    private static String boxedName(TypeKind kind) {
+        return switch (kind) {
+            case BOOLEAN -> "Boolean";
+            case BYTE -> "Byte";
+            case SHORT -> "Short";
+            case INT -> "Integer";
+            case LONG -> "Long";
+            case CHAR -> "Character";
+            case FLOAT -> "Float";
+            case DOUBLE -> "Double";
+            default -> throw new IllegalArgumentException("Not a primitive: " + kind);
+        };
+    }
+
     private static String namespaceClassName(String namespace) {
         // DEMOCRACY_LIB_API -> DemocracyLibApi
         String[] parts = namespace.toLowerCase(Locale.ROOT).split("_");
@@ -425,10 +939,14 @@ public final class BridgeContractProcessor extends AbstractProcessor {
     }
 
     private static String aliasFieldName(MethodSpec methodSpec) {
+        return aliasFieldName(methodSpec.javaName, methodSpec.paramTypeFqns);
+    }
+
+    private static String aliasFieldName(String javaName, List<String> paramTypeFqns) {
         // Example: getGitHubGistService__Plugin__GitHubGistConfiguration
         StringBuilder sb = new StringBuilder();
-        sb.append(methodSpec.javaName);
-        for (String p : methodSpec.paramTypeFqns) {
+        sb.append(javaName);
+        for (String p : paramTypeFqns) {
             sb.append("__").append(simpleTypeToken(p));
         }
         String raw = sb.toString();
@@ -544,6 +1062,7 @@ public final class BridgeContractProcessor extends AbstractProcessor {
     private static final class ApiSurface {
         final String namespace;
         String typeFqn;
+        TypeElement type;
         final List<MethodSpec> methods = new ArrayList<>();
 
         ApiSurface(String namespace) {
@@ -551,6 +1070,31 @@ public final class BridgeContractProcessor extends AbstractProcessor {
         }
     }
 
+    private static final class ValueSurface {
+        final String id;
+        final TypeElement type;
+        final List<ValueField> fields = new ArrayList<>();
+        boolean record;
+        String factory;
+        boolean valid = true;
+
+        ValueSurface(String id, TypeElement type) {
+            this.id = id;
+            this.type = type;
+        }
+    }
+
+    /**
+     * @param accessorType  type read from the leader's value.
+     * @param parameterType type passed to the factory or record constructor.
+     */
+    private record ValueField(String name, TypeMirror accessorType, TypeMirror parameterType) {
+    }
+
+    private enum FieldKind {
+        SCALAR, NESTED
+    }
+
     private static final class MethodSpec {
         Element source;
         String namespace;
@@ -564,6 +1108,7 @@ public final class BridgeContractProcessor extends AbstractProcessor {
 
         String id;
         String constName;
+        int index;
     }
 }
 
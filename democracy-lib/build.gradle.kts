@@ -2,6 +2,7 @@ plugins {
     kotlin("jvm") version "2.3.0-RC3"
     id("java")
     id("com.gradleup.shadow") version "8.3.0"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "net.democracycraft"
@@ -33,8 +34,19 @@ dependencies {
 
     implementation("org.spongepowered:configurate-yaml:4.2.0")
 
+    // Mojang service tests run against a local stub server and need Bukkit/Gson on the test runtime classpath.
+    testImplementation("io.papermc.paper:paper-api:1.21.8-R0.1-SNAPSHOT")
     testImplementation(platform("org.junit:junit-bom:5.10.2"))
     testImplementation("org.junit.jupiter:junit-jupiter")
+
+    jmhImplementation("io.papermc.paper:paper-api:1.21.8-R0.1-SNAPSHOT")
+}
+
+// Benchmarks live in src/jmh/java; run with ./gradlew :democracy-lib:jmh
+jmh {
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
 }
 
 tasks {
@@ -0,0 +1,114 @@
+package net.democracycraft.democracyLib.internal.bootstrap.proxy;
+
+import net.democracycraft.democracyLib.api.service.mojang.MojangService;
+import net.democracycraft.democracyLib.internal.bootstrap.handler.GenericDemocracyBootstrapHandler;
+import org.bukkit.plugin.Plugin;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call cost of reaching the leader's MojangService from a follower.
+ * <p>
+ * {@code proxy} is the generic path: a {@link Proxy} whose {@link GenericDemocracyBootstrapHandler} looks the method up
+ * in its dispatch table and calls the invoker spun for it with {@code LambdaMetafactory};
+ * {@code stub} is the generated {@code MojangServiceBridgeStub}, which calls {@code invokeExact}.
+ * The leader is a plain class with the same methods, so neither path can short-circuit to a direct call. It shares the
+ * benchmark's classloader, so the proxy's invokers are spun with the follower's lookup; a leader in another plugin gets
+ * them spun with its published lookup for methods of up to one parameter, and the spreader fallback otherwise.
+ * Run with {@code -prof gc} to compare allocation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BridgeStubBenchmark {
+
+    private static final UUID PLAYER = UUID.fromString("069a79f4-44e9-4726-a5be-fca90e38aaf5");
+
+    private MojangService<Plugin> proxy;
+    private MojangService<Plugin> stub;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        LeaderMojangService leader = new LeaderMojangService();
+        proxy = (MojangService<Plugin>) Proxy.newProxyInstance(MojangService.class.getClassLoader(),
+                new Class<?>[]{MojangService.class}, new GenericDemocracyBootstrapHandler(MojangService.class, leader));
+        stub = new MojangServiceFollowerStub(leader);
+    }
+
+    @Benchmark
+    public String proxyCachedName() {
+        return proxy.getCachedName(PLAYER);
+    }
+
+    @Benchmark
+    public String stubCachedName() {
+        return stub.getCachedName(PLAYER);
+    }
+
+    @Benchmark
+    public String proxyServiceName() {
+        return proxy.getServiceName();
+    }
+
+    @Benchmark
+    public String stubServiceName() {
+        return stub.getServiceName();
+    }
+
+    public static final class LeaderMojangService {
+
+        private final CompletableFuture<String> name = CompletableFuture.completedFuture("Notch");
+
+        public Plugin getBoundPlugin() {
+            return null;
+        }
+
+        public Object getCache() {
+            return null;
+        }
+
+        public String getCachedName(UUID uniqueIdentifier) {
+            return "Notch";
+        }
+
+        public Object getCachedSkin(UUID uniqueIdentifier) {
+            return null;
+        }
+
+        public UUID getCachedUUID(String name) {
+            return PLAYER;
+        }
+
+        public ExecutorService getExecutorService() {
+            return null;
+        }
+
+        public CompletableFuture<String> getName(UUID uniqueIdentifier) {
+            return name;
+        }
+
+        public String getServiceName() {
+            return "LeaderMojangService";
+        }
+
+        public CompletableFuture<Object> getSkin(UUID uniqueIdentifier) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        public CompletableFuture<UUID> getUUID(String name) {
+            return CompletableFuture.completedFuture(PLAYER);
+        }
+
+        public CompletableFuture<Map<String, UUID>> getUUIDs(Collection<String> names) {
+            return CompletableFuture.completedFuture(Map.of());
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package net.democracycraft.democracyLib.internal.runtime;
+
+import net.democracycraft.democracyLib.internal.config.DemocracyRuntimeConfigurationImpl;
+import net.democracycraft.democracyLib.internal.service.engine.AsyncDemocracyServiceImpl;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Platform pool vs virtual threads for 1,000 concurrent lookups that each block for a stubbed 5 ms network call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ExecutorModeBenchmark {
+
+    private static final int LOOKUPS = 1_000;
+    private static final long STUB_LATENCY_MILLIS = 5;
+
+    @Param({"PLATFORM", "VIRTUAL"})
+    public String mode;
+
+    private ExecutorService executor;
+    private LookupService service;
+
+    @Setup
+    public void setUp() {
+        boolean virtual = mode.equals("VIRTUAL");
+        DemocracyRuntimeConfigurationImpl configuration = new DemocracyRuntimeConfigurationImpl() {
+            @Override
+            public boolean isVirtualThreadsEnabled() {
+                return virtual;
+            }
+
+            @Override
+            public int getQueueCapacity() {
+                // room for every lookup, so the platform pool never rejects
+                return LOOKUPS;
+            }
+        };
+        executor = virtual ? new VirtualThreadDemocracyExecutor(configuration) : new BoundedDemocracyExecutor(configuration);
+        service = new LookupService(executor);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public Object concurrentBlockingLookups() {
+        CompletableFuture<?>[] lookups = new CompletableFuture<?>[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            lookups[i] = service.lookup(i);
+        }
+        return CompletableFuture.allOf(lookups).join();
+    }
+
+    private static final class LookupService extends AsyncDemocracyServiceImpl {
+
+        private LookupService(ExecutorService executor) {
+            super(executor);
+        }
+
+        private CompletableFuture<Integer> lookup(int id) {
+            return supplyAsync(() -> {
+                try {
+                    Thread.sleep(STUB_LATENCY_MILLIS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return id;
+            });
+        }
+
+        @Override
+        public @NotNull String getServiceName() {
+            return "BenchmarkLookupService";
+        }
+
+        @Override
+        public @NotNull ExecutorService getExecutorService() {
+            return executor;
+        }
+    }
+}
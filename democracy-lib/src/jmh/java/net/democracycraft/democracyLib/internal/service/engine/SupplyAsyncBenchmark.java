@@ -0,0 +1,103 @@
+package net.democracycraft.democracyLib.internal.service.engine;
+
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Per-task overhead of {@link AsyncDemocracyServiceImpl#supplyAsync(Supplier)}.
+ * <p>
+ * Tasks run on the submitting thread so only the wrapper is measured. {@code perTaskLabel} reproduces the
+ * previous behaviour, which rebuilt the thread label with {@code String.format} for every task;
+ * {@code cachedLabel} is the current implementation. Run with {@code -prof gc} to compare allocation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SupplyAsyncBenchmark {
+
+    private static final Supplier<Integer> TASK = () -> 42;
+
+    private BenchmarkService service;
+
+    @Setup
+    public void setUp() {
+        service = new BenchmarkService(new CallerRunsExecutorService());
+    }
+
+    @Benchmark
+    public Integer cachedLabel() {
+        return service.supplyAsync(TASK).join();
+    }
+
+    @Benchmark
+    public Integer perTaskLabel() {
+        return CompletableFuture.supplyAsync(() -> {
+            Thread currentThread = Thread.currentThread();
+            String oldName = currentThread.getName();
+            currentThread.setName(String.format("Async-DemocracyLib-[%s]-[%s]", "DemocracyLibProcess", service.getServiceName()));
+            try {
+                return TASK.get();
+            } finally {
+                currentThread.setName(oldName);
+            }
+        }, service.getExecutorService()).join();
+    }
+
+    private static final class BenchmarkService extends AsyncDemocracyServiceImpl {
+
+        private final String pluginName = "BenchmarkPlugin";
+
+        private BenchmarkService(ExecutorService executor) {
+            super(executor);
+        }
+
+        @Override
+        public @NotNull String getServiceName() {
+            return "BenchmarkService_" + pluginName;
+        }
+
+        @Override
+        public @NotNull ExecutorService getExecutorService() {
+            return executor;
+        }
+    }
+
+    private static final class CallerRunsExecutorService extends AbstractExecutorService {
+
+        @Override
+        public void execute(@NotNull Runnable command) {
+            command.run();
+        }
+
+        @Override
+        public void shutdown() {
+        }
+
+        @Override
+        public @NotNull List<Runnable> shutdownNow() {
+            return List.of();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return false;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return false;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, @NotNull TimeUnit unit) {
+            return true;
+        }
+    }
+}
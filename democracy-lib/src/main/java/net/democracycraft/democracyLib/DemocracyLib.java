@@ -13,16 +13,21 @@ import net.democracycraft.democracyLib.internal.config.GitHubGistConfigurationIm
 import net.democracycraft.democracyLib.internal.runtime.DemocracyLibRuntime;
 import net.democracycraft.democracyLib.internal.service.engine.DemocracyServiceManagerImpl;
 import net.democracycraft.democracyLib.internal.service.github.GitHubGistServiceImpl;
+import net.democracycraft.democracyLib.internal.service.mojang.MojangEndpoints;
 import net.democracycraft.democracyLib.internal.service.mojang.MojangServiceImpl;
 import net.democracycraft.democracyLib.internal.bootstrap.DemocracyLibApiRegistry;
 import net.democracycraft.democracyLib.internal.bootstrap.DemocracyBootstrap;
+import net.democracycraft.democracyLib.internal.bootstrap.DemocracyBridgeValues;
+import net.democracycraft.democracyLib.internal.bootstrap.DemocracyLeaderHandover;
 import net.democracycraft.democracyLib.internal.bootstrap.DemocracyLibJvmAnchor;
+import net.democracycraft.democracyLib.internal.bootstrap.handler.GenericDemocracyBootstrapHandler;
 import org.bukkit.plugin.Plugin;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -62,7 +67,7 @@ public final class DemocracyLib implements DemocracyLibApi {
             MojangService<PluginType> byScan = (MojangService<PluginType>) findPluginBoundServiceByPluginName(MojangService.class, plugin.getName());
             if (byScan != null) return byScan;
 
-            MojangServiceImpl<PluginType> created = new MojangServiceImpl<>(plugin, runtime.getMojangCache());
+            MojangServiceImpl<PluginType> created = new MojangServiceImpl<>(plugin, runtime.getMojangCache(), runtime.getMojangRequestCoalescer(), runtime.getMojangRateLimiter(), runtime.getHttpClient(), MojangEndpoints.DEFAULT, runtime.getMojangConfiguration());
             serviceManager.registerService(created);
             return created;
         }
@@ -155,6 +160,9 @@ public final class DemocracyLib implements DemocracyLibApi {
 
             int followers = DemocracyLibApiRegistry.followerCount(anchor);
 
+            // Kept for logging: the anchor entry is cleared below.
+            Object leaderPluginRef = anchor.get(DemocracyBootstrap.KEY_LEADER_PLUGIN_REF);
+
             // Clear leader state first to force immediate on-demand re-election.
             anchor.remove(DemocracyBootstrap.KEY_LEADER);
             anchor.remove(DemocracyBootstrap.KEY_LEADER_SERVICE_MANAGER);
@@ -162,10 +170,19 @@ public final class DemocracyLib implements DemocracyLibApi {
             anchor.remove(DemocracyBootstrap.KEY_LEADER_PLUGIN_REF);
             anchor.remove(DemocracyBootstrap.KEY_LEADER_CLASS);
             anchor.remove(DemocracyBootstrap.KEY_PROTOCOL);
+            anchor.remove(DemocracyBridgeValues.KEY_VALUE_ENCODER);
+            anchor.remove(GenericDemocracyBootstrapHandler.KEY_INVOKER_LOOKUP);
+            DemocracyBootstrap.advanceEpoch(anchor);
 
             if (followers > 0) {
-                // Failover mode: do NOT attempt to preserve caches. Runtime will be recreated by the next leader.
-                // We still shut down our own runtime to avoid leaked threads.
+                // Failover mode: leave the cache for the next leader, elected on demand by a follower.
+                // Our runtime still shuts down; it finishes its queued tasks and Mojang lookups itself.
+                try {
+                    DemocracyLeaderHandover.export(anchor, runtime);
+                } catch (RuntimeException e) {
+                    Logger logger = leaderPluginRef instanceof Plugin p ? p.getLogger() : fallbackLogger();
+                    logger.log(Level.WARNING, "[DemocracyLib] Failed to hand the Mojang cache over to the next leader.", e);
+                }
                 runtime.shutdown();
                 return;
             }
@@ -175,10 +192,15 @@ public final class DemocracyLib implements DemocracyLibApi {
             try {
                 // Preserve the lock object so concurrent callers don't NPE; they'll just recreate state.
                 Object existingLock = anchor.get(GeneratedBridgeContract.AnchorKeys.LOCK);
+                // The epoch counter is kept as well: other classloaders may still hold and watch it.
+                Object existingEpoch = anchor.get(DemocracyBootstrap.KEY_LEADER_EPOCH);
                 anchor.clear();
                 if (existingLock != null) {
                     anchor.put(GeneratedBridgeContract.AnchorKeys.LOCK, existingLock);
                 }
+                if (existingEpoch != null) {
+                    anchor.put(DemocracyBootstrap.KEY_LEADER_EPOCH, existingEpoch);
+                }
             } catch (Throwable ignored) {
             }
         }
@@ -92,7 +92,7 @@ public interface DemocracyLibApi extends SyncDemocracyService {
      * Shaded entry point with optional bootstrap logging.
      */
     static @NotNull DemocracyLibApi instance(@NotNull JavaPlugin plugin, boolean logging) {
-        return DemocracyBootstrap.init(plugin, javaPlugin -> new DemocracyLib(new DemocracyLibRuntime()), logging);
+        return DemocracyBootstrap.init(plugin, javaPlugin -> new DemocracyLib(DemocracyLibRuntime.forPlugin(javaPlugin)), logging);
     }
 
 }
@@ -23,6 +23,31 @@ public final class DemocracyAnchorKeys {
     @BridgeAnchorKey
     public static final String LEADER_SERVICE_MANAGER = "democracylib.leaderServiceManager";
 
+    /**
+     * {@code AtomicLong} advanced whenever the leader is replaced or removed; never replaced itself.
+     */
+    @BridgeAnchorKey
+    public static final String LEADER_EPOCH = "democracylib.leaderEpoch";
+
+    /**
+     * State the last leader left for its successor, see {@code DemocracyLeaderHandover}. Only JDK types.
+     */
+    @BridgeAnchorKey
+    public static final String HANDOVER = "democracylib.handover";
+
+    /**
+     * The leader's {@code UnaryOperator<Object>} encoding its bridge values into JDK types, see {@code GeneratedBridgeValues}.
+     */
+    @BridgeAnchorKey
+    public static final String VALUE_ENCODER = "democracylib.valueEncoder";
+
+    /**
+     * A {@code MethodHandles.Lookup} in the leader's classloader that followers spin call invokers with, see
+     * {@code DemocracyDispatchTable}.
+     */
+    @BridgeAnchorKey
+    public static final String INVOKER_LOOKUP = "democracylib.invokerLookup";
+
     @BridgeAnchorKey
     public static final String PROVIDER_FACTORY = "democracylib.providerFactory";
 
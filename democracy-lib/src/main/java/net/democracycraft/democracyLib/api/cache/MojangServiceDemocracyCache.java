@@ -5,8 +5,15 @@ import net.democracycraft.democracyLib.api.service.engine.AsyncDemocracyService;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
+/**
+ * Shared Mojang lookup cache owned by the leader runtime.
+ * <p>
+ * The returned maps are bounded and expire entries after their configured TTL, so a value
+ * present now may be gone on the next read.
+ */
 public interface MojangServiceDemocracyCache extends DemocracyCache, AsyncDemocracyService {
 
     @NotNull Map<UUID, String> getUniqueIdentifierToNameMap();
@@ -15,5 +22,16 @@ public interface MojangServiceDemocracyCache extends DemocracyCache, AsyncDemocr
 
     @NotNull Map<UUID, SkinDto> getUniqueIdentifierToSkinMap();
 
+    /**
+     * Lower-cased names Mojang recently reported as nonexistent.
+     * <p>
+     * Bounded and expiring independently of the positive maps, so floods of bad names cannot evict real entries.
+     */
+    @NotNull Set<String> getUnknownNames();
+
+    /**
+     * UUIDs Mojang recently reported as having no profile. Bounded like {@link #getUnknownNames()}.
+     */
+    @NotNull Set<UUID> getUnknownUniqueIdentifiers();
 
 }
@@ -0,0 +1,127 @@
+package net.democracycraft.democracyLib.api.config.mojang;
+
+import net.democracycraft.democracyLib.api.config.DemocracyConfig;
+
+/**
+ * Tuning for the leader runtime's Mojang lookups.
+ * <p>
+ * Loaded once from the leader plugin's data folder and shared by every plugin's MojangService.
+ */
+public interface MojangServiceConfiguration extends DemocracyConfig {
+
+    /**
+     * Whether single-name {@code getUUID} misses are collected and sent as bulk requests.
+     */
+    boolean isUuidBatchingEnabled();
+
+    /**
+     * How long the first queued name waits for others before its batch is sent.
+     */
+    long getUuidBatchWindowMillis();
+
+    /**
+     * Batch size that triggers an immediate flush. Capped at the bulk endpoint limit of 10.
+     */
+    int getUuidBatchMaxSize();
+
+    /**
+     * Maximum number of UUID -> name entries kept in the shared cache.
+     */
+    int getNameCacheMaxEntries();
+
+    /**
+     * Minutes a cached UUID -> name entry stays valid. {@code 0} disables expiry.
+     */
+    long getNameCacheTtlMinutes();
+
+    /**
+     * Maximum number of name -> UUID entries kept in the shared cache.
+     */
+    int getUniqueIdentifierCacheMaxEntries();
+
+    /**
+     * Minutes a cached name -> UUID entry stays valid. {@code 0} disables expiry.
+     */
+    long getUniqueIdentifierCacheTtlMinutes();
+
+    /**
+     * Maximum number of skins kept in the shared cache.
+     */
+    int getSkinCacheMaxEntries();
+
+    /**
+     * Minutes a cached skin stays valid. {@code 0} disables expiry.
+     */
+    long getSkinCacheTtlMinutes();
+
+    /**
+     * Share of a cache TTL, in percent, after which an entry is refreshed in the background while lookups keep
+     * returning it. Only lookups of entries past their full TTL wait for Mojang. {@code 100} disables refreshing.
+     */
+    int getCacheRefreshPercent();
+
+    /**
+     * Maximum number of remembered unknown names, and separately of unknown UUIDs.
+     * Kept apart from the positive caches so lookup misses never evict real entries.
+     */
+    int getNegativeCacheMaxEntries();
+
+    /**
+     * Seconds an unknown name or UUID is answered with {@code null} without asking Mojang again.
+     * {@code 0} disables negative caching.
+     */
+    long getNegativeCacheTtlSeconds();
+
+    /**
+     * Requests per minute sent to {@code sessionserver.mojang.com} (names and skins by UUID).
+     * Excess requests are queued, not dropped.
+     */
+    int getSessionServerRequestsPerMinute();
+
+    /**
+     * Requests per minute sent to {@code api.mojang.com} (UUIDs by name). Excess requests are queued, not dropped.
+     */
+    int getProfileApiRequestsPerMinute();
+
+    /**
+     * How often a request rejected with HTTP 429 is retried before its lookup fails with
+     * {@link net.democracycraft.democracyLib.api.service.mojang.MojangRateLimitedException}.
+     */
+    int getRateLimitMaxRetries();
+
+    /**
+     * Back-off before the first retry when Mojang sends no {@code Retry-After}; doubled on every further retry.
+     */
+    long getRateLimitInitialBackoffMillis();
+
+    /**
+     * Upper bound for the exponential back-off.
+     */
+    long getRateLimitMaxBackoffMillis();
+
+    /**
+     * Whether cache entries are persisted to the leader plugin's data folder and restored on startup.
+     */
+    boolean isPersistentCacheEnabled();
+
+    /**
+     * Seconds between batched appends of new cache entries to disk.
+     */
+    long getPersistentCacheFlushSeconds();
+
+    /**
+     * Minutes between rewrites of the on-disk cache that drop expired and superseded records.
+     */
+    long getPersistentCacheCompactionMinutes();
+
+    /**
+     * Whether the leader caches the name, UUID and skin of every joining player from their login profile.
+     */
+    boolean isLoginPrefetchEnabled();
+
+    /**
+     * Maximum login profiles cached per minute; logins beyond it are not prefetched.
+     */
+    int getLoginPrefetchMaxPerMinute();
+
+}
@@ -0,0 +1,47 @@
+package net.democracycraft.democracyLib.api.config.runtime;
+
+import net.democracycraft.democracyLib.api.config.DemocracyConfig;
+
+/**
+ * Limits of the leader runtime's shared worker pool.
+ * <p>
+ * Loaded once from the leader plugin's data folder; every plugin's services run on this pool.
+ * <p>
+ * The pool starts a thread per task up to {@link #getCoreThreads()}, then queues up to {@link #getQueueCapacity()}
+ * tasks, and only then grows towards {@link #getMaxThreads()}; beyond that, submissions fail. Threads above the core
+ * count therefore only help once the queue is full, which is why the defaults set both counts equal. Every idle
+ * thread, core or not, exits after {@link #getKeepAliveSeconds()}.
+ */
+public interface DemocracyRuntimeConfiguration extends DemocracyConfig {
+
+    /**
+     * Threads started before tasks start to queue.
+     */
+    int getCoreThreads();
+
+    /**
+     * Upper bound on worker threads. Threads beyond the core count are only started once the queue is full.
+     */
+    int getMaxThreads();
+
+    /**
+     * Tasks that may wait for a free thread. Submissions beyond this fail their future instead of spawning threads.
+     */
+    int getQueueCapacity();
+
+    /**
+     * Seconds an idle thread survives, including core threads.
+     */
+    long getKeepAliveSeconds();
+
+    /**
+     * Run every task on its own virtual thread instead of the bounded platform pool.
+     * The thread and queue limits above are then unused; {@link #getServiceConcurrencyLimit()} applies instead.
+     */
+    boolean isVirtualThreadsEnabled();
+
+    /**
+     * In virtual-thread mode, the maximum number of tasks of a single service running at once.
+     */
+    int getServiceConcurrencyLimit();
+}
@@ -1,7 +1,9 @@
 package net.democracycraft.democracyLib.api.data;
 
+import net.democracycraft.democracyLib.api.bootstrap.contract.BridgeValue;
 import net.democracycraft.democracyLib.internal.data.SkinDtoImpl;
 
+@BridgeValue
 public interface SkinDto {
 
     String value();
@@ -0,0 +1,25 @@
+package net.democracycraft.democracyLib.api.service.mojang;
+
+/**
+ * Completes a {@link MojangService} lookup that Mojang kept rejecting with HTTP 429.
+ * <p>
+ * Unlike a {@code null} result, this does not mean the player is unknown; the lookup can be retried later.
+ */
+public class MojangRateLimitedException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long retryAfterMillis;
+
+    public MojangRateLimitedException(String message, long retryAfterMillis) {
+        super(message);
+        this.retryAfterMillis = retryAfterMillis;
+    }
+
+    /**
+     * Delay requested by Mojang's {@code Retry-After} header, or {@code -1} if none was sent.
+     */
+    public long getRetryAfterMillis() {
+        return retryAfterMillis;
+    }
+}
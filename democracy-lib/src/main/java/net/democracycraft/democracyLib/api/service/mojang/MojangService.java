@@ -1,5 +1,9 @@
 package net.democracycraft.democracyLib.api.service.mojang;
 
+import net.democracycraft.democracyLib.api.bootstrap.contract.BridgeApi;
+import net.democracycraft.democracyLib.api.bootstrap.contract.BridgeMethod;
+import net.democracycraft.democracyLib.api.bootstrap.contract.BridgeNamespace;
+import net.democracycraft.democracyLib.api.bootstrap.contract.BridgeStability;
 import net.democracycraft.democracyLib.api.cache.MojangServiceDemocracyCache;
 import net.democracycraft.democracyLib.api.data.SkinDto;
 import net.democracycraft.democracyLib.api.service.engine.AsyncDemocracyService;
@@ -8,15 +12,64 @@ import net.democracycraft.democracyLib.api.service.engine.PluginBoundDemocracySe
 import org.bukkit.plugin.Plugin;
 import org.jspecify.annotations.Nullable;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
+/**
+ * Mojang profile lookups backed by the leader runtime's shared cache.
+ * <p>
+ * A {@code null} result means Mojang does not know the player. Lookups that stay rate limited after
+ * the configured retries complete exceptionally with {@link MojangRateLimitedException} instead.
+ */
+@BridgeApi(BridgeNamespace.MOJANG_SERVICE)
 public interface MojangService<PluginType extends Plugin> extends AsyncDemocracyService, PluginBoundDemocracyService<PluginType>, CacheHolderDemocracyService<MojangServiceDemocracyCache> {
 
+    @BridgeMethod(stability = BridgeStability.DERIVED_ID)
     CompletableFuture<@Nullable String> getName(final UUID uniqueIdentifier);
 
+    @BridgeMethod(stability = BridgeStability.DERIVED_ID)
     CompletableFuture<@Nullable UUID> getUUID(final String name);
 
+    /**
+     * Resolves many names at once.
+     * <p>
+     * Cached names are answered locally; the rest are sent to Mojang's bulk profile endpoint
+     * in chunks of 10 names per request.
+     *
+     * @param names player names (case-insensitive).
+     * @return map from each requested name, as passed in, to its UUID. Unknown names are omitted.
+     */
+    @BridgeMethod(stability = BridgeStability.DERIVED_ID, sinceProtocol = 2)
+    CompletableFuture<Map<String, UUID>> getUUIDs(final Collection<String> names);
+
+    @BridgeMethod(stability = BridgeStability.DERIVED_ID)
     CompletableFuture<@Nullable SkinDto> getSkin(final UUID uniqueIdentifier);
 
+    /**
+     * Cached name for the UUID, without contacting Mojang or allocating a future.
+     * Safe to call from the server main thread.
+     *
+     * @return the name, or {@code null} if it is not cached (or the player is known not to exist).
+     */
+    @BridgeMethod(stability = BridgeStability.DERIVED_ID, sinceProtocol = 2)
+    @Nullable String getCachedName(final UUID uniqueIdentifier);
+
+    /**
+     * Cached UUID for the name (case-insensitive), without contacting Mojang or allocating a future.
+     *
+     * @return the UUID, or {@code null} if it is not cached.
+     */
+    @BridgeMethod(stability = BridgeStability.DERIVED_ID, sinceProtocol = 2)
+    @Nullable UUID getCachedUUID(final String name);
+
+    /**
+     * Cached skin for the UUID, without contacting Mojang or allocating a future.
+     *
+     * @return the skin, or {@code null} if it is not cached.
+     */
+    @BridgeMethod(stability = BridgeStability.DERIVED_ID, sinceProtocol = 2)
+    @Nullable SkinDto getCachedSkin(final UUID uniqueIdentifier);
+
 }
@@ -1,8 +1,11 @@
 package net.democracycraft.democracyLib.internal.bootstrap;
 
+import net.democracycraft.democracyLib.DemocracyLib;
 import net.democracycraft.democracyLib.api.DemocracyLibApi;
 import net.democracycraft.democracyLib.api.bootstrap.GeneratedBridgeContract;
 import net.democracycraft.democracyLib.api.bootstrap.contract.BridgeContractVersion;
+import net.democracycraft.democracyLib.internal.bootstrap.handler.GenericDemocracyBootstrapHandler;
+import net.democracycraft.democracyLib.internal.bootstrap.proxy.DemocracyServiceProxies;
 import net.democracycraft.democracyLib.internal.bootstrap.service.DemocracyLibReflectiveApi;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.jetbrains.annotations.NotNull;
@@ -11,6 +14,7 @@ import java.io.InputStream;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Bootstrap initializer for shaded usage.
@@ -19,7 +23,7 @@ import java.util.Properties;
  * - the leader implementation (real shared runtime), or
  * - a follower proxy (reflection bridge to that leader).
  */
-@BridgeContractVersion(1)
+@BridgeContractVersion(2)
 public final class DemocracyBootstrap {
 
     public static final String KEY_LEADER = GeneratedBridgeContract.AnchorKeys.LEADER;
@@ -29,6 +33,12 @@ public final class DemocracyBootstrap {
     public static final String KEY_LEADER_CLASS = GeneratedBridgeContract.AnchorKeys.LEADER_CLASS;
     public static final String KEY_LEADER_SERVICE_MANAGER = GeneratedBridgeContract.AnchorKeys.LEADER_SERVICE_MANAGER;
     public static final String KEY_PROVIDER_FACTORY = GeneratedBridgeContract.AnchorKeys.PROVIDER_FACTORY;
+    public static final String KEY_LEADER_EPOCH = GeneratedBridgeContract.AnchorKeys.LEADER_EPOCH;
+
+    /**
+     * Last leader seen by this classloader; see {@link #leaderSnapshot}.
+     */
+    private static volatile LeaderSnapshot leaderSnapshot;
 
     private DemocracyBootstrap() {
     }
@@ -131,10 +141,65 @@ public final class DemocracyBootstrap {
             // Either no leader or protocol mismatch: create a new leader in the caller's classloader.
             DemocracyLibApi createdLeader = providerFactory.createLeader(caller);
             publishLeaderState(anchor, caller, createdLeader, providerFactory);
+            DemocracyServiceProxies.invalidate();
             return createdLeader;
         }
     }
 
+    /**
+     * Current leader for follower calls. Lock-free while the leader is unchanged: the snapshot is reused as long
+     * as the anchor's epoch still matches, and the anchor lock is only taken to re-read or elect a leader.
+     */
+    public static @NotNull LeaderSnapshot leaderSnapshot(@NotNull JavaPlugin caller,
+                                                         @NotNull ProviderFactory providerFactory,
+                                                         boolean logging) {
+        LeaderSnapshot current = leaderSnapshot;
+        if (current != null && current.isCurrent()) {
+            return current;
+        }
+
+        Map<String, Object> anchor = DemocracyLibJvmAnchor.anchorMap();
+        synchronized (DemocracyLibJvmAnchor.lock()) {
+            current = leaderSnapshot;
+            if (current != null && current.isCurrent()) {
+                return current;
+            }
+
+            Object leader = ensureLeader(caller, providerFactory, logging);
+            AtomicLong epochCounter = epochCounter(anchor);
+            DemocracyBridgeInvoker invoker;
+            if (current != null && current.leader() == leader) {
+                // Same leader under a new epoch: its resolved handles are still good.
+                invoker = current.invoker();
+            } else {
+                if (current != null) {
+                    DemocracyServiceProxies.invalidate();
+                }
+                invoker = new DemocracyBridgeInvoker(leader);
+            }
+
+            LeaderSnapshot refreshed = new LeaderSnapshot(leader, epochCounter.get(), invoker, epochCounter, anchor);
+            leaderSnapshot = refreshed;
+            return refreshed;
+        }
+    }
+
+    /**
+     * The anchor's leader epoch counter. Created once and kept for the lifetime of the JVM, so followers can hold on to it.
+     */
+    public static @NotNull AtomicLong epochCounter(@NotNull Map<String, Object> anchor) {
+        Object existing = anchor.get(KEY_LEADER_EPOCH);
+        if (existing instanceof AtomicLong counter) return counter;
+        return (AtomicLong) anchor.computeIfAbsent(KEY_LEADER_EPOCH, k -> new AtomicLong());
+    }
+
+    /**
+     * Marks every follower's leader snapshot stale. Call with the anchor lock held, whenever the leader changes or goes away.
+     */
+    public static void advanceEpoch(@NotNull Map<String, Object> anchor) {
+        epochCounter(anchor).incrementAndGet();
+    }
+
     private static void publishLeaderState(@NotNull Map<String, Object> anchor,
                                           @NotNull JavaPlugin plugin,
                                           @NotNull DemocracyLibApi createdLeader,
@@ -145,6 +210,11 @@ public final class DemocracyBootstrap {
         anchor.put(KEY_LEADER_PLUGIN_REF, plugin);
         anchor.put(KEY_LEADER_CLASS, createdLeader.getClass().getName());
         anchor.put(KEY_PROVIDER_FACTORY, providerFactory);
+        DemocracyBridgeValues.publishEncoder(anchor);
+        GenericDemocracyBootstrapHandler.publishInvokerLookup(anchor);
+        // Before advancing: the handover is only valid for the epoch the previous leader left in.
+        DemocracyLeaderHandover.adopt(anchor, createdLeader instanceof DemocracyLib lib ? lib.getRuntime() : null);
+        advanceEpoch(anchor);
 
         // Cache the leader's service manager object so proxies don't have to reflectively fetch it each time.
         try {
@@ -154,6 +224,26 @@ public final class DemocracyBootstrap {
         }
     }
 
+    /**
+     * A leader together with the epoch it was read in and its resolved handles.
+     *
+     * @param epochCounter the anchor's counter, kept so that validating the snapshot takes no lookup.
+     */
+    public record LeaderSnapshot(@NotNull Object leader,
+                                 long epoch,
+                                 @NotNull DemocracyBridgeInvoker invoker,
+                                 @NotNull AtomicLong epochCounter,
+                                 @NotNull Map<String, Object> anchor) {
+
+        /**
+         * Whether no election happened since this snapshot was taken. The published leader is compared too,
+         * since leaders from builds without epochs replace it without advancing the counter.
+         */
+        public boolean isCurrent() {
+            return epochCounter.get() == epoch && anchor.get(KEY_LEADER) == leader;
+        }
+    }
+
     public interface ProviderFactory {
         @NotNull DemocracyLibApi createLeader(@NotNull JavaPlugin plugin);
     }
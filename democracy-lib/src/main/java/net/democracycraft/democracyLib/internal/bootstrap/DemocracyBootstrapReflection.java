@@ -3,6 +3,9 @@ package net.democracycraft.democracyLib.internal.bootstrap;
 import net.democracycraft.democracyLib.api.bootstrap.GeneratedBridgeContract;
 import org.jetbrains.annotations.NotNull;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.List;
@@ -12,6 +15,17 @@ import java.util.List;
  */
 public class DemocracyBootstrapReflection {
 
+    private static final MethodHandle UNAVAILABLE;
+
+    static {
+        try {
+            UNAVAILABLE = MethodHandles.lookup().findStatic(DemocracyBootstrapReflection.class, "throwUnavailable",
+                    MethodType.methodType(Object.class, String.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
     private DemocracyBootstrapReflection() {}
 
     public static @NotNull String cacheKey(@NotNull String methodName, Object[] args) {
@@ -67,4 +81,68 @@ public class DemocracyBootstrapReflection {
                 "Could not find method for contract id '" + namespace + "#" + expectedJavaName +
                         "' with params " + expectedParamTypeNames + " on " + targetType.getName());
     }
+
+    public static @NotNull Method resolveByNameAndArity(@NotNull Class<?> targetType, @NotNull String name, int arity) {
+        for (Method candidateMethod : targetType.getMethods()) {
+            if (candidateMethod.getName().equals(name) && candidateMethod.getParameterCount() == arity) {
+                return candidateMethod;
+            }
+        }
+        throw new IllegalStateException("Could not find method " + name + "/" + arity + " on " + targetType.getName());
+    }
+
+    /**
+     * Handles to the target's implementations of the given methods, in the same order.
+     * <p>
+     * Methods are matched by their generated signature, then by name + arity, e.g. when the leader
+     * was built against a relocated copy of a parameter type. A method the contract added after protocol 1 that the
+     * leader lacks gets a handle throwing {@link UnsupportedOperationException}, so the rest of the API stays usable.
+     */
+    public static @NotNull MethodHandle @NotNull [] resolveHandles(@NotNull Class<?> targetType,
+                                                                  @NotNull List<GeneratedBridgeContract.Spec> methods) {
+        MethodHandle[] handles = new MethodHandle[methods.size()];
+        for (int index = 0; index < handles.length; index++) {
+            GeneratedBridgeContract.Spec spec = methods.get(index);
+            Method method;
+            try {
+                method = resolveByGeneratedSpec(targetType, spec);
+            } catch (IllegalStateException e) {
+                try {
+                    method = resolveByNameAndArity(targetType, spec.javaName(), spec.paramTypeFqns().size());
+                } catch (IllegalStateException missing) {
+                    if (spec.sinceProtocol() <= 1) throw missing;
+                    handles[index] = unavailable(targetType, spec);
+                    continue;
+                }
+            }
+            handles[index] = unreflect(method);
+        }
+        return handles;
+    }
+
+    private static MethodHandle unavailable(Class<?> targetType, GeneratedBridgeContract.Spec spec) {
+        String message = spec.namespace() + "#" + spec.javaName() + " needs bridge protocol " + spec.sinceProtocol()
+                + ", which the leader's " + targetType.getName() + " predates";
+        MethodHandle thrower = MethodHandles.insertArguments(UNAVAILABLE, 0, message);
+        Class<?>[] receiverAndParameters = new Class<?>[spec.paramTypeFqns().size() + 1];
+        Arrays.fill(receiverAndParameters, Object.class);
+        return MethodHandles.dropArguments(thrower, 0, receiverAndParameters);
+    }
+
+    private static Object throwUnavailable(String message) {
+        throw new UnsupportedOperationException(message);
+    }
+
+    public static @NotNull MethodHandle unreflect(@NotNull Method method) {
+        try {
+            return MethodHandles.publicLookup().unreflect(method);
+        } catch (IllegalAccessException e) {
+            try {
+                method.setAccessible(true);
+                return MethodHandles.lookup().unreflect(method);
+            } catch (IllegalAccessException ex) {
+                throw new RuntimeException(ex);
+            }
+        }
+    }
 }
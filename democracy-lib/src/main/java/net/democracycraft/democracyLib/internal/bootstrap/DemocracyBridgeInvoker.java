@@ -0,0 +1,70 @@
+package net.democracycraft.democracyLib.internal.bootstrap;
+
+import net.democracycraft.democracyLib.api.bootstrap.GeneratedBridgeContract;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Objects;
+
+/**
+ * Calls contract methods on one leader object through handles bound to it and spread to {@code (Object[])Object},
+ * cached in an array indexed by the generated contract indices ({@code GeneratedBridgeIds.<Api>.Index}).
+ * <p>
+ * After the first call of a method, a call is an array read plus {@code invokeExact}: no spec lookup,
+ * no cache key and no copy of the arguments.
+ */
+public final class DemocracyBridgeInvoker {
+
+    public static final Object[] NO_ARGS = new Object[0];
+
+    private static final MethodType SPREAD_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+    private final Object target;
+    // Racy but benign: handles are immutable, a lost write only means resolving the same handle twice.
+    private final MethodHandle[] handles = new MethodHandle[GeneratedBridgeContract.Methods.COUNT];
+
+    public DemocracyBridgeInvoker(@NotNull Object target) {
+        this.target = Objects.requireNonNull(target, "target");
+    }
+
+    public @NotNull Object target() {
+        return target;
+    }
+
+    /**
+     * @param contractIndex generated index of the contract method.
+     * @param args          arguments, exactly as many as the method takes; {@link #NO_ARGS} for none.
+     */
+    public Object invoke(int contractIndex, Object @NotNull [] args) throws Throwable {
+        MethodHandle handle = handles[contractIndex];
+        if (handle == null) {
+            handle = resolve(contractIndex);
+        }
+        return (Object) handle.invokeExact(args);
+    }
+
+    private MethodHandle resolve(int contractIndex) {
+        GeneratedBridgeContract.Spec spec = GeneratedBridgeContract.Methods.spec(contractIndex);
+        Method method = DemocracyBootstrapReflection.resolveByGeneratedSpec(target.getClass(), spec);
+        MethodHandle handle = spreadBound(DemocracyBootstrapReflection.unreflect(method), target);
+        handles[contractIndex] = handle;
+        return handle;
+    }
+
+    /**
+     * Binds a virtual method handle to its receiver and adapts it to {@code (Object[])Object}.
+     */
+    public static @NotNull MethodHandle spreadBound(@NotNull MethodHandle virtualHandle, @NotNull Object receiver) {
+        MethodHandle bound = virtualHandle.bindTo(receiver);
+        return bound.asSpreader(Object[].class, bound.type().parameterCount()).asType(SPREAD_TYPE);
+    }
+
+    /**
+     * Contract id for a generated index, for error messages.
+     */
+    public static @NotNull String contractId(int contractIndex) {
+        return GeneratedBridgeContract.Methods.id(contractIndex);
+    }
+}
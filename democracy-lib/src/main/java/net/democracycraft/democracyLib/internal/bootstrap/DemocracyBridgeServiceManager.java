@@ -1,6 +1,5 @@
 package net.democracycraft.democracyLib.internal.bootstrap;
 
-import net.democracycraft.democracyLib.api.bootstrap.GeneratedBridgeContract;
 import net.democracycraft.democracyLib.api.bootstrap.GeneratedBridgeIds;
 import net.democracycraft.democracyLib.api.service.engine.DemocracyService;
 import net.democracycraft.democracyLib.api.service.engine.DemocracyServiceManager;
@@ -10,11 +9,7 @@ import org.bukkit.plugin.Plugin;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.lang.invoke.MethodHandle;
-import java.lang.invoke.MethodHandles;
-import java.lang.reflect.Method;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Reflection bridge for the leader's DemocracyServiceManager.
@@ -23,16 +18,15 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public class DemocracyBridgeServiceManager implements DemocracyServiceManager {
 
-    private final Object leaderServiceManager;
-    private final Map<String, MethodHandle> methodHandleCache = new ConcurrentHashMap<>();
+    private final DemocracyBridgeInvoker leaderServiceManager;
 
     public DemocracyBridgeServiceManager(@NotNull Object leaderServiceManager) {
-        this.leaderServiceManager = Objects.requireNonNull(leaderServiceManager, "leaderServiceManager");
+        this.leaderServiceManager = new DemocracyBridgeInvoker(Objects.requireNonNull(leaderServiceManager, "leaderServiceManager"));
     }
 
     @Override
     public @NotNull List<DemocracyService> getAllServices() {
-        Object raw = invokeLeaderByContractId(GeneratedBridgeIds.DemocracyServiceManager.getAllServices, new Object[]{});
+        Object raw = invokeLeaderByContractId(GeneratedBridgeIds.DemocracyServiceManager.Index.getAllServices, DemocracyBridgeInvoker.NO_ARGS);
         if (!(raw instanceof List<?> list)) return List.of();
 
         List<DemocracyService> out = new ArrayList<>(list.size());
@@ -45,7 +39,7 @@ public class DemocracyBridgeServiceManager implements DemocracyServiceManager {
 
     @Override
     public @NotNull <T extends DemocracyService> List<T> getServicesByType(@NotNull Class<T> serviceType) {
-        Object raw = invokeLeaderByContractId(GeneratedBridgeIds.DemocracyServiceManager.getServicesByType__Class, new Object[]{serviceType});
+        Object raw = invokeLeaderByContractId(GeneratedBridgeIds.DemocracyServiceManager.Index.getServicesByType__Class, new Object[]{serviceType});
         if (!(raw instanceof List<?> list)) return List.of();
 
         List<T> out = new ArrayList<>(list.size());
@@ -58,7 +52,7 @@ public class DemocracyBridgeServiceManager implements DemocracyServiceManager {
 
     @Override
     public @Nullable DemocracyService getService(@NotNull String name) {
-        Object leaderService = invokeLeaderByContractId(GeneratedBridgeIds.DemocracyServiceManager.getService__String, new Object[]{name});
+        Object leaderService = invokeLeaderByContractId(GeneratedBridgeIds.DemocracyServiceManager.Index.getService__String, new Object[]{name});
         if (leaderService == null) return null;
 
         // We don't know the interface type here; returning a proxy of DemocracyService is still useful for name/introspection.
@@ -67,7 +61,7 @@ public class DemocracyBridgeServiceManager implements DemocracyServiceManager {
 
     @Override
     public @NotNull <P extends Plugin> List<PluginBoundDemocracyService<P>> getPluginBoundServices(@NotNull P plugin) {
-        Object raw = invokeLeaderByContractId(GeneratedBridgeIds.DemocracyServiceManager.getPluginBoundServices__Plugin, new Object[]{plugin});
+        Object raw = invokeLeaderByContractId(GeneratedBridgeIds.DemocracyServiceManager.Index.getPluginBoundServices__Plugin, new Object[]{plugin});
         if (!(raw instanceof List<?> list)) return List.of();
 
         @SuppressWarnings("unchecked")
@@ -83,51 +77,27 @@ public class DemocracyBridgeServiceManager implements DemocracyServiceManager {
 
     @Override
     public <DemocracyServiceType extends DemocracyService> void registerService(@NotNull DemocracyServiceType service) {
-        invokeLeaderByContractId(GeneratedBridgeIds.DemocracyServiceManager.registerService__DemocracyService, new Object[]{service});
+        invokeLeaderByContractId(GeneratedBridgeIds.DemocracyServiceManager.Index.registerService__DemocracyService, new Object[]{service});
     }
 
     @Override
     public <P extends Plugin, T extends PluginBoundDemocracyService<?>> boolean hasRegisteredService(@NotNull P plugin, @NotNull Class<T> serviceType) {
-        Object raw = invokeLeaderByContractId(GeneratedBridgeIds.DemocracyServiceManager.hasRegisteredService__Plugin__Class, new Object[]{plugin, serviceType});
+        Object raw = invokeLeaderByContractId(GeneratedBridgeIds.DemocracyServiceManager.Index.hasRegisteredService__Plugin__Class, new Object[]{plugin, serviceType});
         return raw instanceof Boolean b && b;
     }
 
     @Override
     public @Nullable <T extends PluginBoundDemocracyService<?>> T getServiceForPlugin(@NotNull Plugin plugin, @NotNull Class<T> serviceClass) {
-        Object leaderService = invokeLeaderByContractId(GeneratedBridgeIds.DemocracyServiceManager.getServiceForPlugin__Plugin__Class, new Object[]{plugin, serviceClass});
+        Object leaderService = invokeLeaderByContractId(GeneratedBridgeIds.DemocracyServiceManager.Index.getServiceForPlugin__Plugin__Class, new Object[]{plugin, serviceClass});
         if (leaderService == null) return null;
         return DemocracyServiceProxyFactory.proxyAs(serviceClass, leaderService);
     }
 
-    private Object invokeLeaderByContractId(@NotNull String contractId, Object[] args) {
-        Objects.requireNonNull(contractId, "contractId");
-
-        Object[] actualArgs = args == null ? new Object[0] : args;
-
-        GeneratedBridgeContract.Spec spec = DemocracyBootstrapReflection.loadGeneratedSpec(contractId);
-        String key = DemocracyBootstrapReflection.cacheKeyByContractId(contractId);
-
-        MethodHandle methodHandle = methodHandleCache.computeIfAbsent(key, k -> {
-            Method targetMethod = DemocracyBootstrapReflection.resolveByGeneratedSpec(leaderServiceManager.getClass(), spec);
-            try {
-                return MethodHandles.publicLookup().unreflect(targetMethod);
-            } catch (IllegalAccessException e) {
-                try {
-                    targetMethod.setAccessible(true);
-                    return MethodHandles.lookup().unreflect(targetMethod);
-                } catch (IllegalAccessException ex) {
-                    throw new RuntimeException(ex);
-                }
-            }
-        });
-
+    private Object invokeLeaderByContractId(int contractIndex, Object @NotNull [] args) {
         try {
-            Object[] full = new Object[actualArgs.length + 1];
-            full[0] = leaderServiceManager;
-            System.arraycopy(actualArgs, 0, full, 1, actualArgs.length);
-            return methodHandle.invokeWithArguments(full);
+            return leaderServiceManager.invoke(contractIndex, args);
         } catch (Throwable t) {
-            throw new RuntimeException("Failed invoking leader service manager contract id: " + contractId, t);
+            throw new RuntimeException("Failed invoking leader service manager contract id: " + DemocracyBridgeInvoker.contractId(contractIndex), t);
         }
     }
 }
@@ -0,0 +1,95 @@
+package net.democracycraft.democracyLib.internal.bootstrap;
+
+import net.democracycraft.democracyLib.api.bootstrap.GeneratedBridgeContract;
+import net.democracycraft.democracyLib.api.bootstrap.GeneratedBridgeValues;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.UnaryOperator;
+
+/**
+ * Moves bridge values ({@code @BridgeValue} DTOs) from the leader's classloader into the follower's.
+ * <p>
+ * The leader publishes its generated encoder in the anchor. Followers run leader results through it, which turns
+ * the leader's DTOs into maps of JDK types, and decode those into their own DTO types with their own generated codec.
+ * Results of a leader in the same classloader, values the follower can already use as its own type, and results that
+ * are not bridge values are returned unchanged. Converted values are remembered per leader instance, so a leader cache
+ * hit handed over repeatedly is only transferred once.
+ */
+public final class DemocracyBridgeValues {
+
+    public static final String KEY_VALUE_ENCODER = GeneratedBridgeContract.AnchorKeys.VALUE_ENCODER;
+
+    /**
+     * This classloader's encoder. Published as this very instance, so a follower can tell it shares the leader's types.
+     */
+    static final UnaryOperator<Object> ENCODER = GeneratedBridgeValues::encode;
+
+    private static final int CONVERSION_SLOTS = 256;
+
+    /**
+     * Recent conversions, direct-mapped by the leader value's identity hash. Slots only weakly reach the leader value.
+     */
+    private static final AtomicReferenceArray<Conversion> CONVERSIONS = new AtomicReferenceArray<>(CONVERSION_SLOTS);
+
+    private DemocracyBridgeValues() {
+    }
+
+    /**
+     * Publishes this classloader's encoder for followers. Call with the anchor lock held when electing a leader.
+     */
+    static void publishEncoder(@NotNull Map<String, Object> anchor) {
+        anchor.put(KEY_VALUE_ENCODER, ENCODER);
+    }
+
+    /**
+     * A leader result as this classloader's types. Futures are converted once they complete.
+     */
+    public static @Nullable Object fromLeader(@Nullable Object result) {
+        if (result == null || result instanceof String || result instanceof Number || result instanceof Boolean) {
+            return result;
+        }
+
+        if (!(DemocracyLibJvmAnchor.anchorMap().get(KEY_VALUE_ENCODER) instanceof UnaryOperator<?> published) || published == ENCODER) {
+            return result;
+        }
+        @SuppressWarnings("unchecked")
+        UnaryOperator<Object> encoder = (UnaryOperator<Object>) published;
+
+        if (result instanceof CompletableFuture<?> future) {
+            // Cache hits arrive completed: convert right away rather than chaining a new future.
+            if (future.isDone() && !future.isCompletedExceptionally()) {
+                Object value = future.getNow(null);
+                Object converted = transfer(encoder, value);
+                return converted == value ? future : CompletableFuture.completedFuture(converted);
+            }
+            return future.thenApply(value -> transfer(encoder, value));
+        }
+        return transfer(encoder, result);
+    }
+
+    private static Object transfer(UnaryOperator<Object> encoder, Object value) {
+        if (value == null || GeneratedBridgeValues.isLocal(value)) return value;
+
+        int slot = System.identityHashCode(value) & (CONVERSION_SLOTS - 1);
+        Conversion last = CONVERSIONS.get(slot);
+        if (last != null && last.leaderValue.get() == value) return last.converted;
+
+        Object encoded = encoder.apply(value);
+        if (encoded == value) return value;
+        Object converted = GeneratedBridgeValues.decode(encoded);
+        if (!(value instanceof List<?>)) {
+            // Lists are built per call by the leader, so remembering them would only evict reusable values.
+            CONVERSIONS.set(slot, new Conversion(new WeakReference<>(value), converted));
+        }
+        return converted;
+    }
+
+    private record Conversion(WeakReference<Object> leaderValue, Object converted) {
+    }
+}
@@ -0,0 +1,68 @@
+package net.democracycraft.democracyLib.internal.bootstrap;
+
+import net.democracycraft.democracyLib.api.bootstrap.GeneratedBridgeContract;
+import net.democracycraft.democracyLib.internal.runtime.DemocracyLibRuntime;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Leader failover that keeps the Mojang cache warm.
+ * <p>
+ * A leader shutting down while followers remain {@linkplain #export exports} its Mojang cache to the anchor, and the
+ * next leader {@linkplain #adopt adopts} it when it is elected, so a plugin reload does not leave every other plugin
+ * with a cold cache. Queued work is not handed over, since it is made of the outgoing plugin's classes. The outgoing
+ * runtime finishes it instead: its pool runs the tasks already queued and its rate limiter sends the Mojang lookups
+ * still waiting for a token. This happens while the plugin is being disabled, so work that outlives the plugin's
+ * classloader can still fail; the followers' callers then see a failed future.
+ * <p>
+ * The handover is a map of JDK types only, since the next leader is usually loaded by a different classloader.
+ * It is tagged with the epoch it was published in and only imported if no other leader was elected in between;
+ * otherwise it is older than what that leader saw and is dropped.
+ */
+public final class DemocracyLeaderHandover {
+
+    public static final String KEY_HANDOVER = GeneratedBridgeContract.AnchorKeys.HANDOVER;
+
+    static final String EPOCH = "epoch";
+    static final String MOJANG_CACHE = "mojangCache";
+
+    private DemocracyLeaderHandover() {
+    }
+
+    /**
+     * Hands the runtime's cache to the next leader. Call with the anchor lock held, after the epoch was advanced
+     * and before the runtime is shut down.
+     */
+    public static void export(@NotNull Map<String, Object> anchor, @NotNull DemocracyLibRuntime runtime) {
+        long epoch = DemocracyBootstrap.epochCounter(anchor).get();
+        anchor.put(KEY_HANDOVER, Map.of(EPOCH, epoch, MOJANG_CACHE, runtime.exportMojangCache()));
+    }
+
+    /**
+     * Takes over the handover left in the anchor, if any. Call with the anchor lock held, before the new leader
+     * advances the epoch.
+     *
+     * @param runtime the new leader's runtime, or {@code null} if the leader is not a {@code DemocracyLib}.
+     * @return how many cache entries were imported.
+     */
+    public static int adopt(@NotNull Map<String, Object> anchor, @Nullable DemocracyLibRuntime runtime) {
+        Object handover = anchor.remove(KEY_HANDOVER);
+        if (runtime == null || !(handover instanceof Map<?, ?> state)) return 0;
+
+        long epoch = DemocracyBootstrap.epochCounter(anchor).get();
+        if (!(state.get(EPOCH) instanceof Long exportedIn) || exportedIn != epoch
+                || !(state.get(MOJANG_CACHE) instanceof List<?> records)) {
+            return 0;
+        }
+
+        try {
+            return runtime.importMojangCache(records.stream().map(String::valueOf).toList());
+        } catch (RuntimeException ignored) {
+            // A warm cache is best-effort; the leader works without it.
+            return 0;
+        }
+    }
+}
@@ -13,6 +13,8 @@ import java.util.concurrent.ConcurrentMap;
  * <p>
  * Uses System properties to store a bootstrap-loaded ConcurrentHashMap,
  * which can safely be used as a cross-classloader rendezvous point.
+ * <p>
+ * The map is remembered per classloader, so once it exists, lookups take no lock.
  */
 public final class DemocracyLibJvmAnchor {
 
@@ -23,8 +25,21 @@ public final class DemocracyLibJvmAnchor {
      */
     static final String ANCHOR_KEY_V1 = "net.democracycraft.democracyLib.anchor.v1";
 
-    @SuppressWarnings("unchecked")
+    private static volatile ConcurrentMap<String, Object> cachedAnchor;
+
     public static @NotNull Map<String, Object> anchorMap() {
+        ConcurrentMap<String, Object> cached = cachedAnchor;
+        // Properties reads don't lock; the identity check notices a map replaced or removed by someone else.
+        if (cached != null && System.getProperties().get(ANCHOR_KEY_V1) == cached) {
+            return cached;
+        }
+        ConcurrentMap<String, Object> anchor = loadAnchorMap();
+        cachedAnchor = anchor;
+        return anchor;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static @NotNull ConcurrentMap<String, Object> loadAnchorMap() {
         Properties props = System.getProperties();
         synchronized (props) {
             Object existing = props.get(ANCHOR_KEY_V1);
@@ -53,6 +68,8 @@ public final class DemocracyLibJvmAnchor {
 
     public static @NotNull Object lock() {
         Map<String, Object> map = anchorMap();
+        Object lock = map.get(GeneratedBridgeContract.AnchorKeys.LOCK);
+        if (lock != null) return lock;
         return map.computeIfAbsent(GeneratedBridgeContract.AnchorKeys.LOCK, k -> new Object());
     }
 }
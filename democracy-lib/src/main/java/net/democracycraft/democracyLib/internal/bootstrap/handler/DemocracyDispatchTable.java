@@ -0,0 +1,282 @@
+package net.democracycraft.democracyLib.internal.bootstrap.handler;
+
+import net.democracycraft.democracyLib.internal.bootstrap.DemocracyBootstrapReflection;
+import net.democracycraft.democracyLib.internal.bootstrap.DemocracyLibJvmAnchor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Invokers for every method of one bridge API interface on one leader class, resolved once by full erased
+ * signature and shared by every proxy of that pair.
+ * <p>
+ * Invokers are spun with {@link LambdaMetafactory}, so a steady-state call is a plain interface call the JIT can
+ * inline. The spun class links against the leader's class by name, so it must be defined in a loader that sees it:
+ * <ul>
+ *     <li>a leader in the follower's classloader gets invokers of up to {@link #MAX_COMPILED_ARITY} parameters spun with
+ *     the follower's own lookup;</li>
+ *     <li>a leader in another classloader gets invokers spun with the lookup it published under
+ *     {@link GenericDemocracyBootstrapHandler#KEY_INVOKER_LOOKUP}. Only JDK interfaces are visible on both sides, so
+ *     this covers methods of up to {@link #MAX_FOREIGN_COMPILED_ARITY} parameters ({@link Function}, {@link BiFunction}).</li>
+ * </ul>
+ * Void methods and everything else are called through a spreader method handle instead.
+ */
+final class DemocracyDispatchTable {
+
+    static final int MAX_COMPILED_ARITY = 5;
+    static final int MAX_FOREIGN_COMPILED_ARITY = 1;
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final Class<?>[] CALL_TYPES = {Call0.class, Call1.class, Call2.class, Call3.class, Call4.class, Call5.class};
+
+    // Keyed by the follower's API interface, then by the leader's class. Held on the follower side only, so a leader
+    // class never references a follower classloader. The tables hold the leader's method handles, so a replaced
+    // leader's classloader is only released once invalidate() swaps the whole cache.
+    private static volatile ClassValue<Map<Class<?>, DemocracyDispatchTable>> tables = newTables();
+
+    private final Map<Method, Invoker> invokers = new HashMap<>();
+    private final Set<Method> compiled = new HashSet<>();
+
+    private DemocracyDispatchTable(Class<?> api, Class<?> leaderType) {
+        MethodHandles.Lookup leaderLookup = leaderLookup(leaderType);
+        Map<String, Method> bySignature = new HashMap<>();
+        Map<String, List<Method>> byNameAndArity = new HashMap<>();
+        for (Method method : leaderType.getMethods()) {
+            if (Modifier.isStatic(method.getModifiers())) continue;
+            bySignature.putIfAbsent(signature(method), method);
+            byNameAndArity.computeIfAbsent(method.getName() + "/" + method.getParameterCount(), ignored -> new ArrayList<>()).add(method);
+        }
+
+        for (Method method : api.getMethods()) {
+            if (Modifier.isStatic(method.getModifiers())) continue;
+
+            Method target = bySignature.get(signature(method));
+            if (target == null) {
+                // Parameter types relocated by the leader's build: accept the name + arity match only if it is the only one.
+                List<Method> candidates = byNameAndArity.getOrDefault(method.getName() + "/" + method.getParameterCount(), List.of());
+                if (candidates.size() == 1) target = candidates.get(0);
+            }
+            if (target == null) {
+                invokers.put(method, missing(method, leaderType));
+                continue;
+            }
+            Invoker invoker = compiledInvoker(target, leaderLookup);
+            if (invoker != null) compiled.add(method);
+            invokers.put(method, invoker != null ? invoker : spreadInvoker(target));
+        }
+    }
+
+    static @NotNull DemocracyDispatchTable of(@NotNull Class<?> api, @NotNull Class<?> leaderType) {
+        Map<Class<?>, DemocracyDispatchTable> byLeaderType = tables.get(api);
+        synchronized (byLeaderType) {
+            return byLeaderType.computeIfAbsent(leaderType, ignored -> new DemocracyDispatchTable(api, leaderType));
+        }
+    }
+
+    /**
+     * Drops every table, releasing the leader classes they were resolved against.
+     */
+    static void invalidate() {
+        tables = newTables();
+    }
+
+    private static ClassValue<Map<Class<?>, DemocracyDispatchTable>> newTables() {
+        return new ClassValue<>() {
+            @Override
+            protected Map<Class<?>, DemocracyDispatchTable> computeValue(@NotNull Class<?> api) {
+                return new HashMap<>();
+            }
+        };
+    }
+
+    /**
+     * Whether calls of {@code method} go through a spun invoker rather than the spreader fallback.
+     */
+    boolean isCompiled(@NotNull Method method) {
+        return compiled.contains(method);
+    }
+
+    @NotNull Invoker invoker(@NotNull Method method) {
+        Invoker invoker = invokers.get(method);
+        if (invoker == null) {
+            throw new IllegalStateException("Method " + method + " is not part of this dispatch table");
+        }
+        return invoker;
+    }
+
+    private static String signature(Method method) {
+        StringBuilder signature = new StringBuilder(method.getName()).append('(');
+        for (Class<?> parameterType : method.getParameterTypes()) {
+            signature.append(parameterType.getName()).append(',');
+        }
+        return signature.append(')').toString();
+    }
+
+    private static Invoker missing(Method method, Class<?> leaderType) {
+        String message = "Could not find method " + signature(method) + " on " + leaderType.getName();
+        return (target, args) -> {
+            throw new IllegalStateException(message);
+        };
+    }
+
+    /**
+     * The lookup the leader published for its own classloader, if {@code leaderType} was loaded there.
+     */
+    private static @Nullable MethodHandles.Lookup leaderLookup(Class<?> leaderType) {
+        if (DemocracyLibJvmAnchor.anchorMap().get(GenericDemocracyBootstrapHandler.KEY_INVOKER_LOOKUP) instanceof MethodHandles.Lookup lookup
+                && lookup.lookupClass().getClassLoader() == leaderType.getClassLoader()
+                && lookup.hasFullPrivilegeAccess()) {
+            return lookup;
+        }
+        return null;
+    }
+
+    private static @Nullable Invoker compiledInvoker(Method target, @Nullable MethodHandles.Lookup leaderLookup) {
+        if (target.getReturnType() == void.class) return null;
+        int arity = target.getParameterCount();
+        try {
+            MethodHandle handle = DemocracyBootstrapReflection.unreflect(target);
+            if (arity <= MAX_COMPILED_ARITY && visible(handle.type())) {
+                return compile(handle, arity);
+            }
+            if (arity <= MAX_FOREIGN_COMPILED_ARITY && leaderLookup != null) {
+                return compileForeign(leaderLookup, leaderLookup.unreflect(target), arity);
+            }
+        } catch (Throwable ignored) {
+            // e.g. a leader method reachable only through setAccessible: fall back to the spreader
+        }
+        return null;
+    }
+
+    private static Invoker spreadInvoker(Method target) {
+        MethodHandle spread = DemocracyBootstrapReflection.unreflect(target)
+                .asSpreader(Object[].class, target.getParameterCount())
+                .asType(MethodType.methodType(Object.class, Object.class, Object[].class));
+        return (receiver, args) -> (Object) spread.invokeExact(receiver, args);
+    }
+
+    /**
+     * Spins the invoker in the leader's classloader, behind a JDK interface the follower can call.
+     */
+    @SuppressWarnings("unchecked")
+    private static Invoker compileForeign(MethodHandles.Lookup leaderLookup, MethodHandle handle, int arity) throws Throwable {
+        if (arity == 0) {
+            Function<Object, Object> call = (Function<Object, Object>) LambdaMetafactory.metafactory(leaderLookup, "apply",
+                    MethodType.methodType(Function.class), MethodType.genericMethodType(1), handle, handle.type().wrap())
+                    .getTarget().invoke();
+            return (target, args) -> call.apply(target);
+        }
+        BiFunction<Object, Object, Object> call = (BiFunction<Object, Object, Object>) LambdaMetafactory.metafactory(leaderLookup, "apply",
+                MethodType.methodType(BiFunction.class), MethodType.genericMethodType(2), handle, handle.type().wrap())
+                .getTarget().invoke();
+        return (target, args) -> call.apply(target, args[0]);
+    }
+
+    private static Invoker compile(MethodHandle handle, int arity) throws Throwable {
+        CallSite site = LambdaMetafactory.metafactory(LOOKUP, "call",
+                MethodType.methodType(CALL_TYPES[arity]),
+                MethodType.genericMethodType(arity + 1),
+                handle,
+                handle.type().wrap());
+        Object call = site.getTarget().invoke();
+
+        return switch (arity) {
+            case 0 -> {
+                Call0 call0 = (Call0) call;
+                yield (target, args) -> call0.call(target);
+            }
+            case 1 -> {
+                Call1 call1 = (Call1) call;
+                yield (target, args) -> call1.call(target, args[0]);
+            }
+            case 2 -> {
+                Call2 call2 = (Call2) call;
+                yield (target, args) -> call2.call(target, args[0], args[1]);
+            }
+            case 3 -> {
+                Call3 call3 = (Call3) call;
+                yield (target, args) -> call3.call(target, args[0], args[1], args[2]);
+            }
+            case 4 -> {
+                Call4 call4 = (Call4) call;
+                yield (target, args) -> call4.call(target, args[0], args[1], args[2], args[3]);
+            }
+            default -> {
+                Call5 call5 = (Call5) call;
+                yield (target, args) -> call5.call(target, args[0], args[1], args[2], args[3], args[4]);
+            }
+        };
+    }
+
+    /**
+     * The spun class links against the leader's types by name, the receiver (the leader's own class) included, so they
+     * must resolve to the same classes here.
+     */
+    private static boolean visible(MethodType type) {
+        ClassLoader loader = LOOKUP.lookupClass().getClassLoader();
+        for (Class<?> parameterType : type.parameterArray()) {
+            if (!visible(loader, parameterType)) return false;
+        }
+        return visible(loader, type.returnType());
+    }
+
+    private static boolean visible(ClassLoader loader, Class<?> type) {
+        while (type.isArray()) type = type.getComponentType();
+        if (type.isPrimitive()) return true;
+        try {
+            return Class.forName(type.getName(), false, loader) == type;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    @FunctionalInterface
+    interface Invoker {
+        Object invoke(Object target, Object @NotNull [] args) throws Throwable;
+    }
+
+    @FunctionalInterface
+    interface Call0 {
+        Object call(Object target) throws Throwable;
+    }
+
+    @FunctionalInterface
+    interface Call1 {
+        Object call(Object target, Object a0) throws Throwable;
+    }
+
+    @FunctionalInterface
+    interface Call2 {
+        Object call(Object target, Object a0, Object a1) throws Throwable;
+    }
+
+    @FunctionalInterface
+    interface Call3 {
+        Object call(Object target, Object a0, Object a1, Object a2) throws Throwable;
+    }
+
+    @FunctionalInterface
+    interface Call4 {
+        Object call(Object target, Object a0, Object a1, Object a2, Object a3) throws Throwable;
+    }
+
+    @FunctionalInterface
+    interface Call5 {
+        Object call(Object target, Object a0, Object a1, Object a2, Object a3, Object a4) throws Throwable;
+    }
+}
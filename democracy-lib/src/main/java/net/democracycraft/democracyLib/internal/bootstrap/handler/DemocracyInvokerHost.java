@@ -0,0 +1,17 @@
+package net.democracycraft.democracyLib.internal.bootstrap.handler;
+
+import java.lang.invoke.MethodHandles;
+
+/**
+ * Lookup class of the invoker lookup a leader publishes for its followers.
+ * <p>
+ * Deliberately empty and alone in nothing but this package, so the published lookup grants no more than public
+ * members and this package's package-private ones.
+ */
+final class DemocracyInvokerHost {
+
+    static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private DemocracyInvokerHost() {
+    }
+}
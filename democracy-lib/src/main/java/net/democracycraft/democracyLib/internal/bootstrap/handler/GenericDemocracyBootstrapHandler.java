@@ -1,23 +1,44 @@
 package net.democracycraft.democracyLib.internal.bootstrap.handler;
 
+import net.democracycraft.democracyLib.api.bootstrap.GeneratedBridgeContract;
+import net.democracycraft.democracyLib.internal.bootstrap.DemocracyBridgeInvoker;
+import net.democracycraft.democracyLib.internal.bootstrap.DemocracyBridgeValues;
 import org.jetbrains.annotations.NotNull;
 
-import java.lang.invoke.MethodHandle;
-import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Method;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Generic handler based on reflection/MethodHandle.
+ * Generic handler that forwards every call of the proxied API to the leader's method with the same signature.
+ * <p>
+ * Methods are resolved through a {@link DemocracyDispatchTable} shared by all proxies of the same API and leader class.
+ * Results are handed over through {@link DemocracyBridgeValues}.
  */
 public class GenericDemocracyBootstrapHandler implements DemocracyBootstrapHandler {
 
+    public static final String KEY_INVOKER_LOOKUP = GeneratedBridgeContract.AnchorKeys.INVOKER_LOOKUP;
+
     protected final Object target;
-    protected final Map<Method, MethodHandle> cache = new ConcurrentHashMap<>();
+    private final DemocracyDispatchTable dispatchTable;
 
-    public GenericDemocracyBootstrapHandler(@NotNull Object target) {
+    public GenericDemocracyBootstrapHandler(@NotNull Class<?> api, @NotNull Object target) {
         this.target = target;
+        this.dispatchTable = DemocracyDispatchTable.of(api, target.getClass());
+    }
+
+    /**
+     * Publishes the lookup followers spin invokers for this classloader's leader with. Call with the anchor lock held
+     * when electing a leader.
+     */
+    public static void publishInvokerLookup(@NotNull Map<String, Object> anchor) {
+        anchor.put(KEY_INVOKER_LOOKUP, DemocracyInvokerHost.LOOKUP);
+    }
+
+    /**
+     * Drops the dispatch tables shared by generic handlers. Must be called when the leader changes.
+     */
+    public static void invalidateDispatchTables() {
+        DemocracyDispatchTable.invalidate();
     }
 
     @Override
@@ -31,33 +52,7 @@ public class GenericDemocracyBootstrapHandler implements DemocracyBootstrapHandl
             return method.invoke(this, args);
         }
 
-        MethodHandle mh = cache.computeIfAbsent(method, m -> {
-            Method tm = resolveByNameAndArity(target.getClass(), m.getName(), m.getParameterCount());
-            try {
-                return MethodHandles.publicLookup().unreflect(tm);
-            } catch (IllegalAccessException e) {
-                try {
-                    tm.setAccessible(true);
-                    return MethodHandles.lookup().unreflect(tm);
-                } catch (IllegalAccessException ex) {
-                    throw new RuntimeException(ex);
-                }
-            }
-        });
-
-        Object[] actualArgs = args == null ? new Object[0] : args;
-        Object[] full = new Object[actualArgs.length + 1];
-        full[0] = target;
-        System.arraycopy(actualArgs, 0, full, 1, actualArgs.length);
-        return mh.invokeWithArguments(full);
-    }
-
-    protected static Method resolveByNameAndArity(Class<?> type, String name, int arity) {
-        for (Method m : type.getMethods()) {
-            if (m.getName().equals(name) && m.getParameterCount() == arity) {
-                return m;
-            }
-        }
-        throw new IllegalStateException("Could not find method " + name + "/" + arity + " on " + type.getName());
+        Object result = dispatchTable.invoker(method).invoke(target, args == null ? DemocracyBridgeInvoker.NO_ARGS : args);
+        return DemocracyBridgeValues.fromLeader(result);
     }
 }
@@ -0,0 +1,102 @@
+package net.democracycraft.democracyLib.internal.bootstrap.proxy;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Follower proxies per (leader service object, API interface), so repeated retrievals of the same leader
+ * service return the same proxy instead of a new one each time.
+ * <p>
+ * Leader services are compared by identity and held weakly. Proxies are held weakly too: a proxy references
+ * its leader service, so holding it strongly would keep its own key alive. These classes are shaded into
+ * every plugin, so each caller classloader has its own cache.
+ */
+final class DemocracyFollowerProxyCache {
+
+    private static final Map<Key, Value> PROXIES = new ConcurrentHashMap<>();
+    private static final ReferenceQueue<Object> QUEUE = new ReferenceQueue<>();
+
+    private DemocracyFollowerProxyCache() {
+    }
+
+    static <ApiType> @NotNull ApiType get(@NotNull Class<ApiType> api,
+                                          @NotNull Object leaderService,
+                                          @NotNull Function<Object, ? extends ApiType> factory) {
+        expunge();
+
+        Value cached = PROXIES.get(new Key(leaderService, api, null));
+        Object proxy = cached == null ? null : cached.get();
+        if (proxy != null) return api.cast(proxy);
+
+        ApiType created = factory.apply(leaderService);
+        Key key = new Key(leaderService, api, QUEUE);
+        // Two racing callers may both create a proxy; either one is fine to keep.
+        PROXIES.put(key, new Value(created, key, QUEUE));
+        return created;
+    }
+
+    /**
+     * Forgets every proxy. Called when the leader changes, so proxies of the old leader's services are not reused.
+     */
+    static void invalidate() {
+        PROXIES.clear();
+        expunge();
+    }
+
+    static int size() {
+        expunge();
+        return PROXIES.size();
+    }
+
+    private static void expunge() {
+        Reference<?> reference;
+        while ((reference = QUEUE.poll()) != null) {
+            if (reference instanceof Key key) {
+                PROXIES.remove(key);
+            } else if (reference instanceof Value value) {
+                PROXIES.remove(value.key, value);
+            }
+        }
+    }
+
+    private static final class Key extends WeakReference<Object> {
+
+        private final Class<?> api;
+        private final int hash;
+
+        private Key(Object leaderService, Class<?> api, ReferenceQueue<Object> queue) {
+            super(leaderService, queue);
+            this.api = api;
+            this.hash = 31 * System.identityHashCode(leaderService) + api.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) return true;
+            if (!(other instanceof Key key) || api != key.api || hash != key.hash) return false;
+            Object leaderService = get();
+            return leaderService != null && leaderService == key.get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final class Value extends WeakReference<Object> {
+
+        private final Key key;
+
+        private Value(Object proxy, Key key, ReferenceQueue<Object> queue) {
+            super(proxy, queue);
+            this.key = key;
+        }
+    }
+}
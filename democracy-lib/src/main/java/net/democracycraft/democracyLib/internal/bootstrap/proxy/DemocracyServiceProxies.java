@@ -3,30 +3,44 @@ package net.democracycraft.democracyLib.internal.bootstrap.proxy;
 import net.democracycraft.democracyLib.api.service.github.GitHubGistService;
 import net.democracycraft.democracyLib.api.service.mojang.MojangService;
 import net.democracycraft.democracyLib.internal.bootstrap.handler.GenericDemocracyBootstrapHandler;
-import net.democracycraft.democracyLib.internal.bootstrap.handler.MojangDemocracyBootstrapHandler;
 import org.bukkit.plugin.Plugin;
 import org.jetbrains.annotations.NotNull;
 
-import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Proxy;
 
+/**
+ * Follower-side views of leader services. Each leader service gets one view per API, reused across retrievals.
+ */
 public final class DemocracyServiceProxies {
 
     private DemocracyServiceProxies() {}
 
-    @SuppressWarnings({"unchecked", "rawtypes"})
+    /**
+     * Uses the generated {@code MojangServiceBridgeStub}, which calls the leader without reflection or argument arrays.
+     */
+    @SuppressWarnings("unchecked")
     public static <PluginType extends Plugin> @NotNull MojangService<PluginType> mojangProxy(@NotNull Object leaderService) {
-        return (MojangService<PluginType>) proxy((Class) MojangService.class, new MojangDemocracyBootstrapHandler(leaderService));
+        return DemocracyFollowerProxyCache.get(MojangService.class, leaderService, MojangServiceFollowerStub::new);
     }
 
-    @SuppressWarnings({"unchecked", "rawtypes"})
+    @SuppressWarnings("unchecked")
     public static <P extends Plugin> @NotNull GitHubGistService<P> githubProxy(@NotNull Object leaderService) {
-        return (GitHubGistService<P>) proxy((Class) GitHubGistService.class, new GenericDemocracyBootstrapHandler(leaderService));
+        return proxy(GitHubGistService.class, leaderService);
     }
 
-    private static <T> @NotNull T proxy(Class<T> api, InvocationHandler handler) {
-        @SuppressWarnings("unchecked")
-        T instance = (T) Proxy.newProxyInstance(api.getClassLoader(), new Class<?>[]{api}, handler);
-        return instance;
+    /**
+     * Drops every cached view and dispatch table. Must be called when the leader changes.
+     */
+    public static void invalidate() {
+        DemocracyFollowerProxyCache.invalidate();
+        GenericDemocracyBootstrapHandler.invalidateDispatchTables();
+    }
+
+    static <ApiType> @NotNull ApiType proxy(@NotNull Class<ApiType> api, @NotNull Object leaderService) {
+        return DemocracyFollowerProxyCache.get(api, leaderService, leader -> api.cast(Proxy.newProxyInstance(
+                api.getClassLoader(),
+                new Class<?>[]{api},
+                new GenericDemocracyBootstrapHandler(api, leader)
+        )));
     }
 }
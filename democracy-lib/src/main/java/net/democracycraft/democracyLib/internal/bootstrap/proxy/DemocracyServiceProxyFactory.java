@@ -1,13 +1,12 @@
 package net.democracycraft.democracyLib.internal.bootstrap.proxy;
 
-import net.democracycraft.democracyLib.internal.bootstrap.handler.GenericDemocracyBootstrapHandler;
-
-import java.lang.reflect.Proxy;
+import net.democracycraft.democracyLib.api.service.mojang.MojangService;
 
 /**
  * Creates best-effort proxies for leader-owned service objects.
  * <p></p>
  * This must only be used when the requested API/interface type is visible to the caller's classloader.
+ * Proxies are cached per leader service, see {@link DemocracyServiceProxies}.
  */
 public class DemocracyServiceProxyFactory {
 
@@ -19,11 +18,10 @@ public class DemocracyServiceProxyFactory {
         if (api.isInstance(leaderService)) {
             return (ApiType) leaderService;
         }
+        if (api == MojangService.class) {
+            return (ApiType) DemocracyServiceProxies.mojangProxy(leaderService);
+        }
 
-        return (ApiType) Proxy.newProxyInstance(
-                api.getClassLoader(),
-                new Class[]{api},
-                new GenericDemocracyBootstrapHandler(leaderService)
-        );
+        return DemocracyServiceProxies.proxy(api, leaderService);
     }
 }
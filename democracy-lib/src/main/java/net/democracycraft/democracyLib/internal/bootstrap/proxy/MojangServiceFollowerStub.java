@@ -0,0 +1,42 @@
+package net.democracycraft.democracyLib.internal.bootstrap.proxy;
+
+import net.democracycraft.democracyLib.api.bootstrap.MojangServiceBridgeStub;
+import net.democracycraft.democracyLib.internal.bootstrap.DemocracyBootstrapReflection;
+import net.democracycraft.democracyLib.internal.bootstrap.DemocracyBridgeValues;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.invoke.MethodHandle;
+
+/**
+ * Follower view of the leader's MojangService, backed by the generated stub.
+ * Skins come back through {@link DemocracyBridgeValues}, like results of every other follower proxy.
+ */
+final class MojangServiceFollowerStub extends MojangServiceBridgeStub {
+
+    /**
+     * Handles per leader service class, resolved once. Weakly tied to the class, so a reloaded leader is not leaked.
+     */
+    private static final ClassValue<MethodHandle[]> HANDLES = new ClassValue<>() {
+        @Override
+        protected MethodHandle[] computeValue(@NotNull Class<?> type) {
+            return DemocracyBootstrapReflection.resolveHandles(type, TARGET_METHODS);
+        }
+    };
+
+    MojangServiceFollowerStub(@NotNull Object leaderService) {
+        super(leaderService, HANDLES.get(leaderService.getClass()));
+    }
+
+    @Override
+    protected Object adapt(int slot, Object result) {
+        return switch (slot) {
+            case getSkin__UUID, getCachedSkin__UUID -> DemocracyBridgeValues.fromLeader(result);
+            default -> result;
+        };
+    }
+
+    @Override
+    public String toString() {
+        return "MojangServiceFollowerStub[" + target + "]";
+    }
+}
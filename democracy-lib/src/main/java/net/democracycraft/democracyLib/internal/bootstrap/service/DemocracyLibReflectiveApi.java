@@ -1,7 +1,6 @@
 package net.democracycraft.democracyLib.internal.bootstrap.service;
 
 import net.democracycraft.democracyLib.api.DemocracyLibApi;
-import net.democracycraft.democracyLib.api.bootstrap.GeneratedBridgeContract;
 import net.democracycraft.democracyLib.api.bootstrap.GeneratedBridgeIds;
 import net.democracycraft.democracyLib.api.config.DemocracyConfigManager;
 import net.democracycraft.democracyLib.api.config.github.GitHubGistConfiguration;
@@ -14,12 +13,7 @@ import org.bukkit.plugin.Plugin;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.jetbrains.annotations.NotNull;
 
-import java.lang.invoke.MethodHandle;
-import java.lang.invoke.MethodHandles;
-import java.lang.reflect.Method;
 import java.util.Map;
-import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Local DemocracyLibApi implementation that delegates to the leader instance via reflection.
@@ -30,8 +24,6 @@ public class DemocracyLibReflectiveApi implements DemocracyLibApi {
     private final DemocracyBootstrap.ProviderFactory providerFactory;
     private final boolean logging;
 
-    private final Map<String, MethodHandle> mhCache = new ConcurrentHashMap<>();
-
     private volatile DemocracyServiceManager serviceManagerProxy;
     private volatile DemocracyConfigManager configManagerProxy;
 
@@ -57,19 +49,19 @@ public class DemocracyLibReflectiveApi implements DemocracyLibApi {
 
     @Override
     public <PluginType extends Plugin> @NotNull MojangService<PluginType> getMojangService(@NotNull PluginType plugin) {
-        Object leaderService = invokeLeaderByContractId(GeneratedBridgeIds.DemocracyLibApi.getMojangService__Plugin, new Object[]{plugin});
+        Object leaderService = invokeLeaderByContractId(GeneratedBridgeIds.DemocracyLibApi.Index.getMojangService__Plugin, new Object[]{plugin});
         return DemocracyServiceProxies.mojangProxy(leaderService);
     }
 
     @Override
     public <PluginType extends Plugin> @NotNull GitHubGistService<PluginType> getGitHubGistService(@NotNull PluginType plugin) {
-        Object leaderService = invokeLeaderByContractId(GeneratedBridgeIds.DemocracyLibApi.getGitHubGistService__Plugin, new Object[]{plugin});
+        Object leaderService = invokeLeaderByContractId(GeneratedBridgeIds.DemocracyLibApi.Index.getGitHubGistService__Plugin, new Object[]{plugin});
         return DemocracyServiceProxies.githubProxy(leaderService);
     }
 
     @Override
     public <PluginType extends Plugin> @NotNull GitHubGistService<PluginType> getGitHubGistService(@NotNull PluginType plugin, @NotNull GitHubGistConfiguration configuration) {
-        Object leaderService = invokeLeaderByContractId(GeneratedBridgeIds.DemocracyLibApi.getGitHubGistService__Plugin__GitHubGistConfiguration, new Object[]{plugin, configuration});
+        Object leaderService = invokeLeaderByContractId(GeneratedBridgeIds.DemocracyLibApi.Index.getGitHubGistService__Plugin__GitHubGistConfiguration, new Object[]{plugin, configuration});
         return DemocracyServiceProxies.githubProxy(leaderService);
     }
 
@@ -88,7 +80,7 @@ public class DemocracyLibReflectiveApi implements DemocracyLibApi {
             } catch (Throwable ignored) {
             }
             if (leaderMgr == null) {
-                leaderMgr = invokeLeaderByContractId(GeneratedBridgeIds.DemocracyLibApi.getServiceManager, new Object[]{});
+                leaderMgr = invokeLeaderByContractId(GeneratedBridgeIds.DemocracyLibApi.Index.getServiceManager, DemocracyBridgeInvoker.NO_ARGS);
             }
 
             serviceManagerProxy = new DemocracyBridgeServiceManager(leaderMgr);
@@ -104,7 +96,7 @@ public class DemocracyLibReflectiveApi implements DemocracyLibApi {
         synchronized (this) {
             if (configManagerProxy != null) return configManagerProxy;
 
-            Object leaderConfigMgr = invokeLeaderByContractId(GeneratedBridgeIds.DemocracyLibApi.getConfigManager, new Object[]{});
+            Object leaderConfigMgr = invokeLeaderByContractId(GeneratedBridgeIds.DemocracyLibApi.Index.getConfigManager, DemocracyBridgeInvoker.NO_ARGS);
             configManagerProxy = new DemocracyBridgeConfigManager(leaderConfigMgr);
             return configManagerProxy;
         }
@@ -122,7 +114,7 @@ public class DemocracyLibReflectiveApi implements DemocracyLibApi {
         // Clear local caches.
         serviceManagerProxy = null;
         configManagerProxy = null;
-        mhCache.clear();
+        DemocracyServiceProxies.invalidate();
     }
 
     @Override
@@ -130,56 +122,19 @@ public class DemocracyLibReflectiveApi implements DemocracyLibApi {
         return "DemocracyAPI-Bridge(" + caller.getName() + ")";
     }
 
-    private Object invokeLeaderByContractId(@NotNull String contractId, Object[] args) {
-        Objects.requireNonNull(contractId, "contractId");
-
-        Object leader = DemocracyBootstrap.ensureLeader(caller, providerFactory, logging);
-        Object[] actualArgs = args == null ? new Object[0] : args;
-
-        GeneratedBridgeContract.Spec spec = DemocracyBootstrapReflection.loadGeneratedSpec(contractId);
-        String key = DemocracyBootstrapReflection.cacheKeyByContractId(contractId);
-
-        MethodHandle methodHandle = mhCache.computeIfAbsent(key, k -> {
-            Method targetMethod = DemocracyBootstrapReflection.resolveByGeneratedSpec(leader.getClass(), spec);
-            try {
-                return MethodHandles.publicLookup().unreflect(targetMethod);
-            } catch (IllegalAccessException e) {
-                try {
-                    targetMethod.setAccessible(true);
-                    return MethodHandles.lookup().unreflect(targetMethod);
-                } catch (IllegalAccessException ex) {
-                    throw new RuntimeException(ex);
-                }
-            }
-        });
-
+    private Object invokeLeaderByContractId(int contractIndex, Object @NotNull [] args) {
+        DemocracyBootstrap.LeaderSnapshot snapshot = DemocracyBootstrap.leaderSnapshot(caller, providerFactory, logging);
         try {
-            Object[] full = new Object[actualArgs.length + 1];
-            full[0] = leader;
-            System.arraycopy(actualArgs, 0, full, 1, actualArgs.length);
-            return methodHandle.invokeWithArguments(full);
+            return snapshot.invoker().invoke(contractIndex, args);
         } catch (Throwable t) {
-            try {
-                mhCache.remove(key);
-            } catch (Throwable ignored) {
+            if (snapshot.isCurrent()) {
+                throw new RuntimeException("Failed invoking leader contract id: " + DemocracyBridgeInvoker.contractId(contractIndex), t);
             }
-            Object retryLeader = DemocracyBootstrap.ensureLeader(caller, providerFactory, logging);
+            // The leader was replaced during the call: retry once against the new one.
             try {
-                Method retryMethod = DemocracyBootstrapReflection.resolveByGeneratedSpec(retryLeader.getClass(), spec);
-                MethodHandle retryHandle;
-                try {
-                    retryHandle = MethodHandles.publicLookup().unreflect(retryMethod);
-                } catch (IllegalAccessException e) {
-                    retryMethod.setAccessible(true);
-                    retryHandle = MethodHandles.lookup().unreflect(retryMethod);
-                }
-
-                Object[] full = new Object[actualArgs.length + 1];
-                full[0] = retryLeader;
-                System.arraycopy(actualArgs, 0, full, 1, actualArgs.length);
-                return retryHandle.invokeWithArguments(full);
+                return DemocracyBootstrap.leaderSnapshot(caller, providerFactory, logging).invoker().invoke(contractIndex, args);
             } catch (Throwable t2) {
-                throw new RuntimeException("Failed invoking leader contract id: " + contractId, t2);
+                throw new RuntimeException("Failed invoking leader contract id: " + DemocracyBridgeInvoker.contractId(contractIndex), t2);
             }
         }
     }
@@ -0,0 +1,516 @@
+package net.democracycraft.democracyLib.internal.cache;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Size-bounded, TTL-aware map used as backing storage for the Mojang cache.
+ * <p>
+ * Lookups go straight to a {@link ConcurrentHashMap}. Recency is tracked with a segmented LRU:
+ * new entries enter a probation segment and are promoted to a protected segment (80% of capacity) on
+ * their second access, so one-off lookups (tab-complete spam, bot joins) cannot flush frequently used entries.
+ * <p>
+ * Reads only reorder the segments when the eviction lock is free; under contention the reorder is skipped,
+ * which keeps the read path non-blocking at the cost of slightly approximate recency.
+ * Expired entries are dropped lazily on read and in bulk by {@link #cleanUp()}.
+ * <p>
+ * An optional refresh interval shorter than the TTL enables stale-while-revalidate: {@link #getCompleted(Object, Function)}
+ * keeps serving an entry older than the interval and starts one background refresh for it.
+ */
+public final class BoundedExpiringMap<KeyType, ValueType> extends AbstractMap<KeyType, ValueType> {
+
+    private static final int PROBATION = 1;
+    private static final int PROTECTED = 2;
+
+    private final ConcurrentHashMap<KeyType, Node<KeyType, ValueType>> data = new ConcurrentHashMap<>();
+    private final int maximumSize;
+    private final int protectedMaximumSize;
+    private final long timeToLiveMillis;
+    private final long refreshAfterMillis;
+    private final LongSupplier clock;
+
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final Segment<KeyType, ValueType> probation = new Segment<>();
+    private final Segment<KeyType, ValueType> protectedSegment = new Segment<>();
+
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder expirationCount = new LongAdder();
+    private final LongAdder refreshCount = new LongAdder();
+
+    private volatile @Nullable WriteListener<KeyType, ValueType> writeListener;
+
+    private Set<Entry<KeyType, ValueType>> entrySet;
+
+    /**
+     * @param maximumSize      maximum number of entries kept; must be positive.
+     * @param timeToLiveMillis entry lifetime since it was written; {@code <= 0} disables expiry.
+     */
+    public BoundedExpiringMap(int maximumSize, long timeToLiveMillis) {
+        this(maximumSize, timeToLiveMillis, 0);
+    }
+
+    /**
+     * @param refreshAfterMillis entry age after which {@link #getCompleted(Object, Function)} refreshes it in the
+     *                           background; {@code <= 0}, or not below the TTL, disables refreshing.
+     */
+    public BoundedExpiringMap(int maximumSize, long timeToLiveMillis, long refreshAfterMillis) {
+        this(maximumSize, timeToLiveMillis, refreshAfterMillis, System::currentTimeMillis);
+    }
+
+    BoundedExpiringMap(int maximumSize, long timeToLiveMillis, @NotNull LongSupplier clock) {
+        this(maximumSize, timeToLiveMillis, 0, clock);
+    }
+
+    BoundedExpiringMap(int maximumSize, long timeToLiveMillis, long refreshAfterMillis, @NotNull LongSupplier clock) {
+        if (maximumSize <= 0) throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+        this.maximumSize = maximumSize;
+        this.protectedMaximumSize = Math.max(1, (int) (maximumSize * 0.8));
+        this.timeToLiveMillis = timeToLiveMillis;
+        this.refreshAfterMillis = refreshAfterMillis > 0 && (timeToLiveMillis <= 0 || refreshAfterMillis < timeToLiveMillis)
+                ? refreshAfterMillis
+                : 0;
+        this.clock = clock;
+    }
+
+    @Override
+    public @Nullable ValueType get(Object key) {
+        Node<KeyType, ValueType> node = liveNode(key, clock.getAsLong());
+        return node == null ? null : node.value;
+    }
+
+    /**
+     * Like {@link #get(Object)}, but returns a completed future that is created once per entry and reused
+     * by every later hit, so cached lookups don't allocate.
+     */
+    public @Nullable CompletableFuture<ValueType> getCompleted(Object key) {
+        return getCompleted(key, null);
+    }
+
+    /**
+     * Like {@link #getCompleted(Object)}. If the entry is older than the refresh interval, it is still returned,
+     * and {@code refresher} is called once for it in the background. The refresher is expected to {@link #put}
+     * the new value; if its future fails, a later hit may start another refresh.
+     */
+    public @Nullable CompletableFuture<ValueType> getCompleted(Object key,
+                                                               @Nullable Function<? super KeyType, ? extends CompletableFuture<?>> refresher) {
+        long now = clock.getAsLong();
+        Node<KeyType, ValueType> node = liveNode(key, now);
+        if (node == null) return null;
+
+        if (refresher != null && refreshAfterMillis > 0 && now - node.writtenAt >= refreshAfterMillis
+                && REFRESHING.compareAndSet(node, 0, 1)) {
+            refresh(node, refresher);
+        }
+
+        CachedCompletedFuture<ValueType> completed = node.completed;
+        if (completed == null) {
+            // racing readers may each create one; they are equivalent
+            completed = new CachedCompletedFuture<>(node.value);
+            node.completed = completed;
+        }
+        return completed;
+    }
+
+    private void refresh(Node<KeyType, ValueType> node, Function<? super KeyType, ? extends CompletableFuture<?>> refresher) {
+        refreshCount.increment();
+        CompletableFuture<?> refreshing;
+        try {
+            refreshing = refresher.apply(node.key);
+        } catch (RuntimeException e) {
+            refreshing = CompletableFuture.failedFuture(e);
+        }
+        // A successful refresh replaces the node. If it is still mapped, the refresh failed or found nothing
+        // (refreshers may turn failures into a null result), so let the next hit try again.
+        refreshing.whenComplete((ignored, throwable) -> {
+            if (data.get(node.key) == node) node.refreshing = 0;
+        });
+    }
+
+    private @Nullable Node<KeyType, ValueType> liveNode(Object key, long now) {
+        if (key == null) return null;
+        Node<KeyType, ValueType> node = data.get(key);
+        if (node == null) return null;
+
+        if (isExpired(node, now)) {
+            if (data.remove(key, node)) {
+                expirationCount.increment();
+                unlinkLocked(node);
+            }
+            return null;
+        }
+
+        recordAccess(node);
+        return node;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public @Nullable ValueType put(@NotNull KeyType key, @NotNull ValueType value) {
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(value, "value");
+
+        Node<KeyType, ValueType> node = new Node<>(key, value, clock.getAsLong());
+        Node<KeyType, ValueType> previous = data.put(key, node);
+        link(key, node, previous);
+
+        WriteListener<KeyType, ValueType> listener = writeListener;
+        if (listener != null) {
+            listener.written(key, value, node.writtenAt);
+        }
+
+        if (previous == null || isExpired(previous, node.writtenAt)) return null;
+        return previous.value;
+    }
+
+    /**
+     * Inserts an entry that was written at {@code writtenAt} (epoch millis), e.g. one loaded from disk.
+     * <p>
+     * Does nothing if the entry is already expired or if the map holds a newer value for the key.
+     * The write listener is not notified.
+     *
+     * @return whether the entry was stored.
+     */
+    public boolean restore(@NotNull KeyType key, @NotNull ValueType value, long writtenAt) {
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(value, "value");
+        long now = clock.getAsLong();
+        if (timeToLiveMillis > 0 && now - writtenAt >= timeToLiveMillis) return false;
+
+        Node<KeyType, ValueType> node = new Node<>(key, value, writtenAt);
+        Node<KeyType, ValueType> current = data.get(key);
+        while (true) {
+            if (current == null) {
+                current = data.putIfAbsent(key, node);
+                if (current == null) break;
+            } else if (current.writtenAt < writtenAt || isExpired(current, now)) {
+                if (data.replace(key, current, node)) break;
+                current = data.get(key);
+            } else {
+                return false;
+            }
+        }
+
+        link(key, node, current);
+        return true;
+    }
+
+    /**
+     * Listener invoked after every {@link #put(Object, Object)} with the entry's write time; not invoked for {@link #restore}.
+     */
+    public void setWriteListener(@Nullable WriteListener<KeyType, ValueType> writeListener) {
+        this.writeListener = writeListener;
+    }
+
+    /**
+     * Visits every live entry together with the time it was written (epoch millis).
+     */
+    public void forEachEntry(@NotNull EntryVisitor<KeyType, ValueType> visitor) {
+        long now = clock.getAsLong();
+        for (Node<KeyType, ValueType> node : data.values()) {
+            if (!isExpired(node, now)) {
+                visitor.visit(node.key, node.value, node.writtenAt);
+            }
+        }
+    }
+
+    private void link(KeyType key, Node<KeyType, ValueType> node, @Nullable Node<KeyType, ValueType> previous) {
+        evictionLock.lock();
+        try {
+            if (previous != null) {
+                unlink(previous);
+            }
+            // A concurrent put/remove for the same key may already have replaced this node; never link a stale one.
+            if (data.get(key) == node) {
+                probation.addFirst(node, PROBATION);
+            }
+            evictIfNeeded();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    @Override
+    public @Nullable ValueType remove(Object key) {
+        if (key == null) return null;
+        Node<KeyType, ValueType> node = data.remove(key);
+        if (node == null) return null;
+
+        unlinkLocked(node);
+        return isExpired(node, clock.getAsLong()) ? null : node.value;
+    }
+
+    @Override
+    public void clear() {
+        evictionLock.lock();
+        try {
+            data.clear();
+            probation.clear();
+            protectedSegment.clear();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Number of stored entries, including expired entries that have not been cleaned up yet.
+     */
+    @Override
+    public int size() {
+        return data.size();
+    }
+
+    @Override
+    public @NotNull Set<Entry<KeyType, ValueType>> entrySet() {
+        Set<Entry<KeyType, ValueType>> view = entrySet;
+        if (view == null) {
+            view = new EntrySetView();
+            entrySet = view;
+        }
+        return view;
+    }
+
+    /**
+     * Removes every expired entry.
+     *
+     * @return number of entries removed.
+     */
+    public int cleanUp() {
+        long now = clock.getAsLong();
+        int removed = 0;
+        for (Node<KeyType, ValueType> node : data.values()) {
+            if (isExpired(node, now) && data.remove(node.key, node)) {
+                unlinkLocked(node);
+                removed++;
+            }
+        }
+        expirationCount.add(removed);
+        return removed;
+    }
+
+    public int maximumSize() {
+        return maximumSize;
+    }
+
+    public long timeToLiveMillis() {
+        return timeToLiveMillis;
+    }
+
+    public long refreshAfterMillis() {
+        return refreshAfterMillis;
+    }
+
+    public long evictionCount() {
+        return evictionCount.sum();
+    }
+
+    public long expirationCount() {
+        return expirationCount.sum();
+    }
+
+    /**
+     * Background refreshes started for stale entries.
+     */
+    public long refreshCount() {
+        return refreshCount.sum();
+    }
+
+    private boolean isExpired(Node<KeyType, ValueType> node, long now) {
+        return timeToLiveMillis > 0 && now - node.writtenAt >= timeToLiveMillis;
+    }
+
+    private void recordAccess(Node<KeyType, ValueType> node) {
+        if (!evictionLock.tryLock()) return;
+        try {
+            if (node.segment == PROBATION) {
+                probation.unlink(node);
+                protectedSegment.addFirst(node, PROTECTED);
+                // Demote the protected segment's least recently used entries back to probation.
+                while (protectedSegment.size > protectedMaximumSize) {
+                    Node<KeyType, ValueType> demoted = protectedSegment.removeLast();
+                    probation.addFirst(demoted, PROBATION);
+                }
+            } else if (node.segment == PROTECTED) {
+                protectedSegment.unlink(node);
+                protectedSegment.addFirst(node, PROTECTED);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void evictIfNeeded() {
+        while (data.size() > maximumSize) {
+            Node<KeyType, ValueType> victim = probation.size > 0 ? probation.removeLast() : protectedSegment.removeLast();
+            if (victim == null) return;
+            if (data.remove(victim.key, victim)) {
+                evictionCount.increment();
+            }
+        }
+    }
+
+    private void unlinkLocked(Node<KeyType, ValueType> node) {
+        evictionLock.lock();
+        try {
+            unlink(node);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void unlink(Node<KeyType, ValueType> node) {
+        if (node.segment == PROBATION) {
+            probation.unlink(node);
+        } else if (node.segment == PROTECTED) {
+            protectedSegment.unlink(node);
+        }
+    }
+
+    @FunctionalInterface
+    public interface EntryVisitor<KeyType, ValueType> {
+        void visit(@NotNull KeyType key, @NotNull ValueType value, long writtenAt);
+    }
+
+    @FunctionalInterface
+    public interface WriteListener<KeyType, ValueType> {
+        void written(@NotNull KeyType key, @NotNull ValueType value, long writtenAt);
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<Node> REFRESHING = AtomicIntegerFieldUpdater.newUpdater(Node.class, "refreshing");
+
+    private static final class Node<KeyType, ValueType> {
+        final KeyType key;
+        final ValueType value;
+        final long writtenAt;
+        volatile @Nullable CachedCompletedFuture<ValueType> completed;
+        // 1 while a background refresh of this value is running.
+        volatile int refreshing;
+
+        // Guarded by evictionLock.
+        int segment;
+        Node<KeyType, ValueType> previous;
+        Node<KeyType, ValueType> next;
+
+        Node(KeyType key, ValueType value, long writtenAt) {
+            this.key = key;
+            this.value = value;
+            this.writtenAt = writtenAt;
+        }
+    }
+
+    /**
+     * Intrusive doubly linked list; head is most recently used. Guarded by evictionLock.
+     */
+    private static final class Segment<KeyType, ValueType> {
+        Node<KeyType, ValueType> head;
+        Node<KeyType, ValueType> tail;
+        int size;
+
+        void addFirst(Node<KeyType, ValueType> node, int segment) {
+            node.segment = segment;
+            node.previous = null;
+            node.next = head;
+            if (head != null) head.previous = node;
+            head = node;
+            if (tail == null) tail = node;
+            size++;
+        }
+
+        Node<KeyType, ValueType> removeLast() {
+            Node<KeyType, ValueType> node = tail;
+            if (node != null) unlink(node);
+            return node;
+        }
+
+        void unlink(Node<KeyType, ValueType> node) {
+            if (node.previous != null) node.previous.next = node.next;
+            else head = node.next;
+            if (node.next != null) node.next.previous = node.previous;
+            else tail = node.previous;
+            node.previous = null;
+            node.next = null;
+            node.segment = 0;
+            size--;
+        }
+
+        void clear() {
+            for (Node<KeyType, ValueType> node = head; node != null; ) {
+                Node<KeyType, ValueType> next = node.next;
+                node.previous = null;
+                node.next = null;
+                node.segment = 0;
+                node = next;
+            }
+            head = null;
+            tail = null;
+            size = 0;
+        }
+    }
+
+    private final class EntrySetView extends AbstractSet<Entry<KeyType, ValueType>> {
+
+        @Override
+        public @NotNull Iterator<Entry<KeyType, ValueType>> iterator() {
+            Iterator<Node<KeyType, ValueType>> nodes = data.values().iterator();
+            long now = clock.getAsLong();
+
+            return new Iterator<>() {
+                private Node<KeyType, ValueType> nextNode = advance();
+                private Node<KeyType, ValueType> lastReturned;
+
+                private Node<KeyType, ValueType> advance() {
+                    while (nodes.hasNext()) {
+                        Node<KeyType, ValueType> candidate = nodes.next();
+                        if (!isExpired(candidate, now)) return candidate;
+                    }
+                    return null;
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return nextNode != null;
+                }
+
+                @Override
+                public Entry<KeyType, ValueType> next() {
+                    if (nextNode == null) throw new NoSuchElementException();
+                    lastReturned = nextNode;
+                    nextNode = advance();
+                    return new SimpleImmutableEntry<>(lastReturned.key, lastReturned.value);
+                }
+
+                @Override
+                public void remove() {
+                    if (lastReturned == null) throw new IllegalStateException();
+                    if (data.remove(lastReturned.key, lastReturned)) {
+                        unlinkLocked(lastReturned);
+                    }
+                    lastReturned = null;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return data.size();
+        }
+
+        @Override
+        public void clear() {
+            BoundedExpiringMap.this.clear();
+        }
+    }
+}
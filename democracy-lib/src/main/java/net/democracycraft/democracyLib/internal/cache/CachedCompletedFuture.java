@@ -0,0 +1,41 @@
+package net.democracycraft.democracyLib.internal.cache;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Already-completed future that can be handed to any number of callers.
+ * <p>
+ * Completing or cancelling an already completed future has no effect; the {@code obtrude*} methods, which
+ * would change the value seen by every other holder, are refused. Dependent stages are ordinary futures.
+ */
+public final class CachedCompletedFuture<ValueType> extends CompletableFuture<ValueType> {
+
+    private static final CachedCompletedFuture<?> NULL = new CachedCompletedFuture<>(null);
+
+    public CachedCompletedFuture(ValueType value) {
+        super.complete(value);
+    }
+
+    /**
+     * Shared future completed with {@code null}, for answers like "known to not exist".
+     */
+    @SuppressWarnings("unchecked")
+    public static <ValueType> CachedCompletedFuture<ValueType> ofNull() {
+        return (CachedCompletedFuture<ValueType>) NULL;
+    }
+
+    @Override
+    public void obtrudeValue(ValueType value) {
+        throw new UnsupportedOperationException("Shared cached future cannot be changed");
+    }
+
+    @Override
+    public void obtrudeException(Throwable ex) {
+        throw new UnsupportedOperationException("Shared cached future cannot be changed");
+    }
+
+    @Override
+    public <U> CompletableFuture<U> newIncompleteFuture() {
+        return new CompletableFuture<>();
+    }
+}
@@ -0,0 +1,251 @@
+package net.democracycraft.democracyLib.internal.cache;
+
+import net.democracycraft.democracyLib.api.data.SkinDto;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Append-only on-disk log of Mojang cache writes, so a restarted leader starts warm.
+ * <p>
+ * Every cache write is queued in memory and appended by {@link #flush()} in batches; the runtime
+ * calls it periodically. {@link #compact()} rewrites the file from the live cache contents so the log
+ * does not grow forever. Records keep the original fetch time, so TTLs keep counting across restarts.
+ * <p>
+ * Format: one tab-separated record per line.
+ * <pre>
+ * N  fetchedAtMillis  uuid  name
+ * S  fetchedAtMillis  uuid  textureValue  textureSignature|-
+ * </pre>
+ */
+public final class MojangCacheJournal {
+
+    private static final String NAME_RECORD = "N";
+    private static final String SKIN_RECORD = "S";
+    private static final String NO_SIGNATURE = "-";
+
+    private final Path file;
+    private final MojangServiceDemocracyCacheImpl cache;
+    private final Logger logger;
+
+    private final ConcurrentLinkedQueue<String> pendingLines = new ConcurrentLinkedQueue<>();
+    private final Object fileLock = new Object();
+
+    private volatile boolean loaded;
+    // Records appended (or loaded) since the last compaction. Guarded by fileLock.
+    private int recordsSinceCompaction;
+
+    public MojangCacheJournal(@NotNull Path file, @NotNull MojangServiceDemocracyCacheImpl cache, @NotNull Logger logger) {
+        this.file = file;
+        this.cache = cache;
+        this.logger = logger;
+
+        cache.getUniqueIdentifierToNameMap().setWriteListener((uuid, name, fetchedAt) ->
+                pendingLines.add(record(NAME_RECORD, fetchedAt, uuid, name)));
+        cache.getUniqueIdentifierToSkinMap().setWriteListener((uuid, skin, fetchedAt) ->
+                pendingLines.add(record(SKIN_RECORD, fetchedAt, uuid, skin.value(),
+                        skin.signature() == null ? NO_SIGNATURE : skin.signature())));
+    }
+
+    /**
+     * Replays the log into the cache on the given executor.
+     * <p>
+     * Lookups made before loading finishes simply miss the cache; entries fetched meanwhile are newer
+     * than anything on disk and are not overwritten.
+     */
+    public @NotNull CompletableFuture<Void> loadAsync(@NotNull Executor executor) {
+        return CompletableFuture.runAsync(this::load, executor);
+    }
+
+    private void load() {
+        if (!Files.exists(file)) {
+            loaded = true;
+            return;
+        }
+
+        int lines = 0;
+        int restored = 0;
+        synchronized (fileLock) {
+            try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    lines++;
+                    if (replay(cache, line)) restored++;
+                }
+            } catch (IOException e) {
+                logger.log(Level.WARNING, "[DemocracyLib] Failed to read Mojang cache journal " + file, e);
+            } finally {
+                recordsSinceCompaction = lines;
+                loaded = true;
+            }
+        }
+        logger.fine("[DemocracyLib] Restored " + restored + " Mojang cache entries from " + lines + " journal records.");
+    }
+
+    /**
+     * Every live cache entry as a journal record. The records are plain strings, so they can be handed to a
+     * cache loaded by another classloader and applied there with {@link #restore}.
+     */
+    public static @NotNull List<String> snapshot(@NotNull MojangServiceDemocracyCacheImpl cache) {
+        List<String> records = new ArrayList<>();
+        cache.getUniqueIdentifierToNameMap().forEachEntry((uuid, name, fetchedAt) ->
+                records.add(record(NAME_RECORD, fetchedAt, uuid, name)));
+        cache.getUniqueIdentifierToSkinMap().forEachEntry((uuid, skin, fetchedAt) ->
+                records.add(record(SKIN_RECORD, fetchedAt, uuid, skin.value(),
+                        skin.signature() == null ? NO_SIGNATURE : skin.signature())));
+        return records;
+    }
+
+    /**
+     * Applies records produced by {@link #snapshot}. Expired records and records older than the cached value are skipped.
+     *
+     * @return how many entries were stored.
+     */
+    public static int restore(@NotNull MojangServiceDemocracyCacheImpl cache, @NotNull Iterable<String> records) {
+        int restored = 0;
+        for (String record : records) {
+            if (replay(cache, record)) restored++;
+        }
+        return restored;
+    }
+
+    private static boolean replay(MojangServiceDemocracyCacheImpl cache, String line) {
+        String[] parts = line.split("\t");
+        try {
+            long fetchedAt = Long.parseLong(parts[1]);
+            UUID uuid = UUID.fromString(parts[2]);
+
+            if (NAME_RECORD.equals(parts[0]) && parts.length == 4) {
+                String name = parts[3];
+                boolean restored = cache.getUniqueIdentifierToNameMap().restore(uuid, name, fetchedAt);
+                restored |= cache.getNameToUniqueIdentifierMap().restore(MojangNameKeys.normalize(name), uuid, fetchedAt);
+                return restored;
+            }
+            if (SKIN_RECORD.equals(parts[0]) && parts.length == 5) {
+                String signature = NO_SIGNATURE.equals(parts[4]) ? null : parts[4];
+                return cache.getUniqueIdentifierToSkinMap().restore(uuid, SkinDto.of(parts[3], signature), fetchedAt);
+            }
+        } catch (RuntimeException ignored) {
+            // Torn write or foreign data: skip the record.
+        }
+        return false;
+    }
+
+    /**
+     * Appends every queued record to the log.
+     */
+    public void flush() {
+        if (pendingLines.isEmpty()) return;
+
+        synchronized (fileLock) {
+            try {
+                Files.createDirectories(file.getParent());
+                try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                    String line;
+                    while ((line = pendingLines.poll()) != null) {
+                        writer.write(line);
+                        writer.newLine();
+                        recordsSinceCompaction++;
+                    }
+                }
+            } catch (IOException e) {
+                logger.log(Level.WARNING, "[DemocracyLib] Failed to append to Mojang cache journal " + file, e);
+            }
+        }
+    }
+
+    /**
+     * Rewrites the log from the live cache contents, dropping expired and superseded records.
+     * Skipped until the initial load has finished, so nothing on disk is lost, and when nothing was
+     * written since the last compaction.
+     */
+    public void compact() {
+        if (!loaded) return;
+
+        synchronized (fileLock) {
+            if (recordsSinceCompaction == 0) return;
+
+            // Records still queued are also in the snapshot; appending them afterwards only adds harmless duplicates.
+            Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+            try {
+                Files.createDirectories(file.getParent());
+                try (BufferedWriter writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+                    IOException[] failure = {null};
+                    cache.getUniqueIdentifierToNameMap().forEachEntry((uuid, name, fetchedAt) -> {
+                        if (failure[0] != null) return;
+                        try {
+                            writer.write(record(NAME_RECORD, fetchedAt, uuid, name));
+                            writer.newLine();
+                        } catch (IOException e) {
+                            failure[0] = e;
+                        }
+                    });
+                    cache.getUniqueIdentifierToSkinMap().forEachEntry((uuid, skin, fetchedAt) -> {
+                        if (failure[0] != null) return;
+                        try {
+                            writer.write(record(SKIN_RECORD, fetchedAt, uuid, skin.value(),
+                                    skin.signature() == null ? NO_SIGNATURE : skin.signature()));
+                            writer.newLine();
+                        } catch (IOException e) {
+                            failure[0] = e;
+                        }
+                    });
+                    if (failure[0] != null) throw failure[0];
+                }
+                moveReplacing(temporary, file);
+                recordsSinceCompaction = 0;
+            } catch (IOException e) {
+                logger.log(Level.WARNING, "[DemocracyLib] Failed to compact Mojang cache journal " + file, e);
+            }
+        }
+    }
+
+    /**
+     * Flushes pending records. Called on runtime shutdown.
+     */
+    public void close() {
+        flush();
+        cache.getUniqueIdentifierToNameMap().setWriteListener(null);
+        cache.getUniqueIdentifierToSkinMap().setWriteListener(null);
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public int pendingRecordCount() {
+        return pendingLines.size();
+    }
+
+    private static void moveReplacing(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static String record(String type, long fetchedAt, UUID uuid, String... payload) {
+        StringBuilder line = new StringBuilder(64)
+                .append(type).append('\t')
+                .append(fetchedAt).append('\t')
+                .append(uuid);
+        for (String value : payload) {
+            line.append('\t').append(value);
+        }
+        return line.toString();
+    }
+}
@@ -0,0 +1,88 @@
+package net.democracycraft.democracyLib.internal.cache;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Locale;
+
+/**
+ * Case-insensitive keys for the name -> UUID cache, which stores lower-cased names.
+ * <p>
+ * {@link #normalize(String)} produces the stored form. {@link #lookupKey(String)} gives an object that finds
+ * the stored form in a hash map without lower-casing the name first: for an ASCII name with upper-case
+ * letters it returns a reused per-thread probe whose {@code hashCode} matches the lower-cased string and
+ * whose {@code equals} compares case-insensitively. The probe is only valid for the next single map call.
+ */
+public final class MojangNameKeys {
+
+    private static final ThreadLocal<LowerCaseProbe> PROBE = ThreadLocal.withInitial(LowerCaseProbe::new);
+
+    private MojangNameKeys() {
+    }
+
+    /**
+     * Lower-cased name as stored in the cache. Returns {@code name} itself when it is already lower case.
+     */
+    public static @NotNull String normalize(@NotNull String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Key for a single {@code get}/{@code containsKey} on a map keyed by {@link #normalize(String) normalized} names.
+     * Never store the result.
+     */
+    public static @NotNull Object lookupKey(@NotNull String name) {
+        boolean upperCase = false;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c >= 0x80) return normalize(name); // not a Minecraft name; take the general path
+            if (c >= 'A' && c <= 'Z') upperCase = true;
+        }
+        if (!upperCase) return name;
+
+        LowerCaseProbe probe = PROBE.get();
+        probe.reset(name);
+        return probe;
+    }
+
+    /**
+     * Stands in for the lower-cased form of an ASCII name. Hash maps call {@code probe.equals(storedKey)},
+     * so the asymmetric equality is only ever evaluated in that direction.
+     */
+    private static final class LowerCaseProbe {
+
+        private String name;
+        private int hash;
+
+        private void reset(String name) {
+            this.name = name;
+            int h = 0;
+            for (int i = 0; i < name.length(); i++) {
+                h = 31 * h + toLower(name.charAt(i));
+            }
+            this.hash = h;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof String stored) || stored.length() != name.length()) return false;
+            for (int i = 0; i < name.length(); i++) {
+                if (toLower(name.charAt(i)) != stored.charAt(i)) return false;
+            }
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return normalize(name);
+        }
+
+        private static char toLower(char c) {
+            return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+        }
+    }
+}
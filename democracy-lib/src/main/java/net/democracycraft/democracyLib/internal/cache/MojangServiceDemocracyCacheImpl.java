@@ -1,46 +1,114 @@
 package net.democracycraft.democracyLib.internal.cache;
 
 import net.democracycraft.democracyLib.api.cache.MojangServiceDemocracyCache;
+import net.democracycraft.democracyLib.api.config.mojang.MojangServiceConfiguration;
 import net.democracycraft.democracyLib.api.data.SkinDto;
+import net.democracycraft.democracyLib.internal.config.MojangServiceConfigurationImpl;
 import net.democracycraft.democracyLib.internal.service.engine.AsyncDemocracyServiceImpl;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Map;
+import java.util.Collections;
+import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 
 public class MojangServiceDemocracyCacheImpl extends AsyncDemocracyServiceImpl implements MojangServiceDemocracyCache {
 
-    private final Map<UUID, String> uuidToName = new ConcurrentHashMap<>();
-    private final Map<String, UUID> nameToUuid = new ConcurrentHashMap<>();
-    private final Map<UUID, SkinDto> skins = new ConcurrentHashMap<>();
+    private final BoundedExpiringMap<UUID, String> uuidToName;
+    private final BoundedExpiringMap<String, UUID> nameToUuid;
+    private final BoundedExpiringMap<UUID, SkinDto> skins;
+
+    // Negative entries live in their own maps so misses are bounded and evicted separately from hits.
+    private final BoundedExpiringMap<String, Boolean> unknownNameMap;
+    private final BoundedExpiringMap<UUID, Boolean> unknownUuidMap;
+    private final Set<String> unknownNames;
+    private final Set<UUID> unknownUuids;
 
     public MojangServiceDemocracyCacheImpl(ExecutorService executor) {
+        this(executor, new MojangServiceConfigurationImpl());
+    }
+
+    public MojangServiceDemocracyCacheImpl(ExecutorService executor, MojangServiceConfiguration configuration) {
         super(executor);
+        int refreshPercent = configuration.getCacheRefreshPercent();
+        this.uuidToName = newPositiveMap(configuration.getNameCacheMaxEntries(), configuration.getNameCacheTtlMinutes(), refreshPercent);
+        this.nameToUuid = newPositiveMap(configuration.getUniqueIdentifierCacheMaxEntries(), configuration.getUniqueIdentifierCacheTtlMinutes(), refreshPercent);
+        this.skins = newPositiveMap(configuration.getSkinCacheMaxEntries(), configuration.getSkinCacheTtlMinutes(), refreshPercent);
+
+        int negativeMaxEntries = configuration.getNegativeCacheMaxEntries();
+        long negativeTtlMillis = TimeUnit.SECONDS.toMillis(configuration.getNegativeCacheTtlSeconds());
+        this.unknownNameMap = new BoundedExpiringMap<>(negativeMaxEntries, negativeTtlMillis);
+        this.unknownUuidMap = new BoundedExpiringMap<>(negativeMaxEntries, negativeTtlMillis);
+        this.unknownNames = Collections.newSetFromMap(unknownNameMap);
+        this.unknownUuids = Collections.newSetFromMap(unknownUuidMap);
+    }
+
+    private static <KeyType, ValueType> BoundedExpiringMap<KeyType, ValueType> newPositiveMap(int maxEntries, long ttlMinutes, int refreshPercent) {
+        long ttlMillis = TimeUnit.MINUTES.toMillis(ttlMinutes);
+        // A refresh interval equal to the TTL disables refreshing.
+        return new BoundedExpiringMap<>(maxEntries, ttlMillis, ttlMillis * refreshPercent / 100);
     }
 
     @Override
-    public @NotNull Map<UUID, String> getUniqueIdentifierToNameMap() {
+    public @NotNull BoundedExpiringMap<UUID, String> getUniqueIdentifierToNameMap() {
         return uuidToName;
     }
 
     @Override
-    public @NotNull Map<String, UUID> getNameToUniqueIdentifierMap() {
+    public @NotNull BoundedExpiringMap<String, UUID> getNameToUniqueIdentifierMap() {
         return nameToUuid;
     }
 
     @Override
-    public @NotNull Map<UUID, SkinDto> getUniqueIdentifierToSkinMap() {
+    public @NotNull BoundedExpiringMap<UUID, SkinDto> getUniqueIdentifierToSkinMap() {
         return skins;
     }
 
+    @Override
+    public @NotNull Set<String> getUnknownNames() {
+        return unknownNames;
+    }
+
+    @Override
+    public @NotNull Set<UUID> getUnknownUniqueIdentifiers() {
+        return unknownUuids;
+    }
+
+    /**
+     * Backing map of {@link #getUnknownNames()}, exposed for its eviction and expiration counters.
+     */
+    public @NotNull BoundedExpiringMap<String, Boolean> getUnknownNameMap() {
+        return unknownNameMap;
+    }
+
+    /**
+     * Backing map of {@link #getUnknownUniqueIdentifiers()}, exposed for its eviction and expiration counters.
+     */
+    public @NotNull BoundedExpiringMap<UUID, Boolean> getUnknownUniqueIdentifierMap() {
+        return unknownUuidMap;
+    }
+
+    /**
+     * Drops expired entries from every map. Entries are also expired lazily on read,
+     * so this only reclaims memory held by keys nobody asks for anymore.
+     */
+    public void cleanUp() {
+        uuidToName.cleanUp();
+        nameToUuid.cleanUp();
+        skins.cleanUp();
+        unknownNameMap.cleanUp();
+        unknownUuidMap.cleanUp();
+    }
+
     @Override
     public void clearCache() {
         supplyAsync(() -> {
             uuidToName.clear();
             nameToUuid.clear();
             skins.clear();
+            unknownNameMap.clear();
+            unknownUuidMap.clear();
             return null; // void return
         });
     }
@@ -0,0 +1,89 @@
+package net.democracycraft.democracyLib.internal.config;
+
+import net.democracycraft.democracyLib.api.config.DemocracyConfigName;
+import net.democracycraft.democracyLib.api.config.runtime.DemocracyRuntimeConfiguration;
+import net.democracycraft.democracyLib.internal.runtime.BoundedDemocracyExecutor;
+import org.jetbrains.annotations.NotNull;
+import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.spongepowered.configurate.objectmapping.meta.Comment;
+import org.spongepowered.configurate.objectmapping.meta.Setting;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@ConfigSerializable
+@DemocracyConfigName("runtime.yml")
+public class DemocracyRuntimeConfigurationImpl implements DemocracyRuntimeConfiguration {
+
+    // Tasks only queue once core-threads are busy, and threads beyond core-threads only start once the queue is
+    // full, so the defaults keep core-threads equal to max-threads and let idle workers time out instead.
+    @Setting("core-threads")
+    @Comment("Worker threads started before tasks start to queue. Idle workers still exit after keep-alive-seconds.")
+    private int coreThreads = 16;
+
+    @Setting("max-threads")
+    @Comment("Maximum worker threads shared by every plugin using DemocracyLib. Threads above core-threads are only started once the queue is full.")
+    private int maxThreads = 16;
+
+    @Setting("queue-capacity")
+    @Comment("Tasks waiting for a worker once core-threads are busy. When full (and max-threads are busy) new tasks fail instead of piling up.")
+    private int queueCapacity = 512;
+
+    @Setting("keep-alive-seconds")
+    @Comment("Seconds an idle worker is kept before it exits.")
+    private long keepAliveSeconds = 60;
+
+    @Setting("virtual-threads")
+    @Comment("Run tasks on virtual threads instead of the pool above (requires Java 21).")
+    private boolean virtualThreadsEnabled = false;
+
+    @Setting("service-concurrency-limit")
+    @Comment("With virtual-threads, maximum concurrent tasks per service (per plugin's Mojang/Gist service).")
+    private int serviceConcurrencyLimit = 64;
+
+    @Override
+    public int getCoreThreads() {
+        return Math.max(1, coreThreads);
+    }
+
+    @Override
+    public int getMaxThreads() {
+        return Math.max(getCoreThreads(), maxThreads);
+    }
+
+    @Override
+    public int getQueueCapacity() {
+        return Math.clamp(queueCapacity, 1, BoundedDemocracyExecutor.MAX_QUEUE_CAPACITY);
+    }
+
+    @Override
+    public long getKeepAliveSeconds() {
+        return Math.max(1, keepAliveSeconds);
+    }
+
+    @Override
+    public boolean isVirtualThreadsEnabled() {
+        return virtualThreadsEnabled;
+    }
+
+    @Override
+    public int getServiceConcurrencyLimit() {
+        return Math.max(1, serviceConcurrencyLimit);
+    }
+
+    /**
+     * Settings whose configured value is out of range, each with the value used instead. The getters above always
+     * return usable values; this only exists so the runtime can tell the server owner.
+     */
+    public @NotNull List<String> invalidSettings() {
+        List<String> invalid = new ArrayList<>();
+        if (coreThreads != getCoreThreads()) invalid.add("core-threads " + coreThreads + " (using " + getCoreThreads() + ")");
+        if (maxThreads != getMaxThreads()) invalid.add("max-threads " + maxThreads + " (using " + getMaxThreads() + ")");
+        if (queueCapacity != getQueueCapacity()) invalid.add("queue-capacity " + queueCapacity + " (using " + getQueueCapacity() + ")");
+        if (keepAliveSeconds != getKeepAliveSeconds()) invalid.add("keep-alive-seconds " + keepAliveSeconds + " (using " + getKeepAliveSeconds() + ")");
+        if (serviceConcurrencyLimit != getServiceConcurrencyLimit()) {
+            invalid.add("service-concurrency-limit " + serviceConcurrencyLimit + " (using " + getServiceConcurrencyLimit() + ")");
+        }
+        return invalid;
+    }
+}
@@ -0,0 +1,212 @@
+package net.democracycraft.democracyLib.internal.config;
+
+import net.democracycraft.democracyLib.api.config.DemocracyConfigName;
+import net.democracycraft.democracyLib.api.config.mojang.MojangServiceConfiguration;
+import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.spongepowered.configurate.objectmapping.meta.Comment;
+import org.spongepowered.configurate.objectmapping.meta.Setting;
+
+@ConfigSerializable
+@DemocracyConfigName("mojang-service.yml")
+public class MojangServiceConfigurationImpl implements MojangServiceConfiguration {
+
+    @Setting("uuid-batching-enabled")
+    @Comment("Collect single name -> UUID lookups and send them to Mojang's bulk endpoint together.")
+    private boolean uuidBatchingEnabled = false;
+
+    @Setting("uuid-batch-window-ms")
+    @Comment("Milliseconds to wait for more names before a batch is sent.")
+    private long uuidBatchWindowMillis = 25;
+
+    @Setting("uuid-batch-max-size")
+    @Comment("Send a batch immediately once it holds this many names (max 10).")
+    private int uuidBatchMaxSize = 10;
+
+    @Setting("name-cache-max-entries")
+    @Comment("Maximum cached UUID -> name entries.")
+    private int nameCacheMaxEntries = 10_000;
+
+    @Setting("name-cache-ttl-minutes")
+    @Comment("Minutes before a cached name is looked up again (0 = never expire).")
+    private long nameCacheTtlMinutes = 360;
+
+    @Setting("uuid-cache-max-entries")
+    @Comment("Maximum cached name -> UUID entries.")
+    private int uniqueIdentifierCacheMaxEntries = 10_000;
+
+    @Setting("uuid-cache-ttl-minutes")
+    @Comment("Minutes before a cached UUID is looked up again (0 = never expire).")
+    private long uniqueIdentifierCacheTtlMinutes = 360;
+
+    @Setting("skin-cache-max-entries")
+    @Comment("Maximum cached skins. Each skin holds roughly 1-2 KB of texture data.")
+    private int skinCacheMaxEntries = 2_000;
+
+    @Setting("skin-cache-ttl-minutes")
+    @Comment("Minutes before a cached skin is fetched again (0 = never expire).")
+    private long skinCacheTtlMinutes = 60;
+
+    @Setting("cache-refresh-percent")
+    @Comment("Once a cached name/UUID/skin is this old (percent of its TTL), lookups still return it but refresh it in the background (100 = disabled).")
+    private int cacheRefreshPercent = 75;
+
+    @Setting("negative-cache-max-entries")
+    @Comment("Maximum remembered unknown names (and, separately, unknown UUIDs).")
+    private int negativeCacheMaxEntries = 5_000;
+
+    @Setting("negative-cache-ttl-seconds")
+    @Comment("Seconds an unknown name/UUID is not looked up again (0 = disabled).")
+    private long negativeCacheTtlSeconds = 300;
+
+    @Setting("session-server-requests-per-minute")
+    @Comment("Request budget for sessionserver.mojang.com (names/skins by UUID). Excess lookups wait in a queue.")
+    private int sessionServerRequestsPerMinute = 200;
+
+    @Setting("profile-api-requests-per-minute")
+    @Comment("Request budget for api.mojang.com (UUIDs by name). Excess lookups wait in a queue.")
+    private int profileApiRequestsPerMinute = 60;
+
+    @Setting("rate-limit-max-retries")
+    @Comment("Retries of a request Mojang rejected with HTTP 429 before the lookup fails.")
+    private int rateLimitMaxRetries = 3;
+
+    @Setting("rate-limit-initial-backoff-ms")
+    @Comment("Back-off before the first retry if Mojang sends no Retry-After; doubles on every retry.")
+    private long rateLimitInitialBackoffMillis = 1_000;
+
+    @Setting("rate-limit-max-backoff-ms")
+    @Comment("Upper bound for the retry back-off.")
+    private long rateLimitMaxBackoffMillis = 60_000;
+
+    @Setting("persistent-cache-enabled")
+    @Comment("Keep cached names/skins on disk so restarts don't start with an empty cache.")
+    private boolean persistentCacheEnabled = true;
+
+    @Setting("persistent-cache-flush-seconds")
+    @Comment("Seconds between writes of new cache entries to disk.")
+    private long persistentCacheFlushSeconds = 5;
+
+    @Setting("persistent-cache-compaction-minutes")
+    @Comment("Minutes between rewrites of the cache file that drop expired entries.")
+    private long persistentCacheCompactionMinutes = 30;
+
+    @Setting("login-prefetch-enabled")
+    @Comment("Cache the name, UUID and skin of joining players from their login profile, without asking Mojang.")
+    private boolean loginPrefetchEnabled = false;
+
+    @Setting("login-prefetch-max-per-minute")
+    @Comment("Maximum joining players cached per minute, so a bot-join flood cannot fill the cache.")
+    private int loginPrefetchMaxPerMinute = 300;
+
+
+    @Override
+    public boolean isUuidBatchingEnabled() {
+        return uuidBatchingEnabled;
+    }
+
+    @Override
+    public long getUuidBatchWindowMillis() {
+        return Math.max(0, uuidBatchWindowMillis);
+    }
+
+    @Override
+    public int getUuidBatchMaxSize() {
+        return Math.max(1, Math.min(10, uuidBatchMaxSize));
+    }
+
+    @Override
+    public int getNameCacheMaxEntries() {
+        return Math.max(1, nameCacheMaxEntries);
+    }
+
+    @Override
+    public long getNameCacheTtlMinutes() {
+        return Math.max(0, nameCacheTtlMinutes);
+    }
+
+    @Override
+    public int getUniqueIdentifierCacheMaxEntries() {
+        return Math.max(1, uniqueIdentifierCacheMaxEntries);
+    }
+
+    @Override
+    public long getUniqueIdentifierCacheTtlMinutes() {
+        return Math.max(0, uniqueIdentifierCacheTtlMinutes);
+    }
+
+    @Override
+    public int getSkinCacheMaxEntries() {
+        return Math.max(1, skinCacheMaxEntries);
+    }
+
+    @Override
+    public long getSkinCacheTtlMinutes() {
+        return Math.max(0, skinCacheTtlMinutes);
+    }
+
+    @Override
+    public int getCacheRefreshPercent() {
+        return Math.max(1, Math.min(100, cacheRefreshPercent));
+    }
+
+    @Override
+    public int getNegativeCacheMaxEntries() {
+        return Math.max(1, negativeCacheMaxEntries);
+    }
+
+    @Override
+    public long getNegativeCacheTtlSeconds() {
+        return Math.max(0, negativeCacheTtlSeconds);
+    }
+
+    @Override
+    public int getSessionServerRequestsPerMinute() {
+        return Math.max(1, sessionServerRequestsPerMinute);
+    }
+
+    @Override
+    public int getProfileApiRequestsPerMinute() {
+        return Math.max(1, profileApiRequestsPerMinute);
+    }
+
+    @Override
+    public int getRateLimitMaxRetries() {
+        return Math.max(0, rateLimitMaxRetries);
+    }
+
+    @Override
+    public long getRateLimitInitialBackoffMillis() {
+        return Math.max(1, rateLimitInitialBackoffMillis);
+    }
+
+    @Override
+    public long getRateLimitMaxBackoffMillis() {
+        return Math.max(1, rateLimitMaxBackoffMillis);
+    }
+
+    @Override
+    public boolean isPersistentCacheEnabled() {
+        return persistentCacheEnabled;
+    }
+
+    @Override
+    public long getPersistentCacheFlushSeconds() {
+        return Math.max(1, persistentCacheFlushSeconds);
+    }
+
+    @Override
+    public long getPersistentCacheCompactionMinutes() {
+        return Math.max(1, persistentCacheCompactionMinutes);
+    }
+
+    @Override
+    public boolean isLoginPrefetchEnabled() {
+        return loginPrefetchEnabled;
+    }
+
+    @Override
+    public int getLoginPrefetchMaxPerMinute() {
+        return Math.max(1, loginPrefetchMaxPerMinute);
+    }
+
+}
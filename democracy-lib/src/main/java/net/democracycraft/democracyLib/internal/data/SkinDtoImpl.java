@@ -1,6 +1,58 @@
 package net.democracycraft.democracyLib.internal.data;
 
 import net.democracycraft.democracyLib.api.data.SkinDto;
+import org.jetbrains.annotations.Nullable;
 
-public record SkinDtoImpl(String value, String signature) implements SkinDto {
+import java.util.Objects;
+
+/**
+ * Skin backed by interned {@link SkinPayload}s; {@link #value()} and {@link #signature()} build their
+ * strings on each call, so a cached skin costs roughly three quarters of its base64 size, once per distinct texture.
+ */
+public final class SkinDtoImpl implements SkinDto {
+
+    private final SkinPayload value;
+    private final @Nullable SkinPayload signature;
+
+    public SkinDtoImpl(String value, @Nullable String signature) {
+        this.value = SkinPayload.of(Objects.requireNonNull(value, "value"));
+        this.signature = signature == null ? null : SkinPayload.of(signature);
+    }
+
+    @Override
+    public String value() {
+        return value.asString();
+    }
+
+    @Override
+    public @Nullable String signature() {
+        return signature == null ? null : signature.asString();
+    }
+
+    /**
+     * Bytes held for the texture value and signature, shared with every equal skin.
+     */
+    public int payloadSize() {
+        return value.size() + (signature == null ? 0 : signature.size());
+    }
+
+    /**
+     * Whether both skins hold the same texture and signature. Cheaper than comparing {@link #value()} strings.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        // interned payloads are equal only if they are the same instance
+        return other instanceof SkinDtoImpl skin && value == skin.value && signature == skin.signature;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * value.hashCode() + Objects.hashCode(signature);
+    }
+
+    @Override
+    public String toString() {
+        return "SkinDtoImpl[valueBytes=" + value.size() + ", signed=" + (signature != null) + "]";
+    }
 }
@@ -0,0 +1,143 @@
+package net.democracycraft.democracyLib.internal.data;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compact, interned form of a skin texture string.
+ * <p>
+ * Canonical base64 (what Mojang sends) is stored decoded, saving a quarter of the bytes; anything else is
+ * kept as Latin-1 or UTF-8. Equal payloads share one instance for as long as any skin references it, so
+ * skins that show up in several places (login profile, cache, journal) are stored once.
+ */
+final class SkinPayload {
+
+    private static final byte BASE64 = 0;
+    private static final byte LATIN_1 = 1;
+    private static final byte UTF_8 = 2;
+
+    // Keyed by content hash through weak references; cleared references are expunged via QUEUE.
+    private static final ConcurrentHashMap<PayloadReference, PayloadReference> INTERNED = new ConcurrentHashMap<>();
+    private static final ReferenceQueue<SkinPayload> QUEUE = new ReferenceQueue<>();
+
+    private final byte encoding;
+    private final byte[] bytes;
+    private final int hash;
+
+    private SkinPayload(byte encoding, byte[] bytes) {
+        this.encoding = encoding;
+        this.bytes = bytes;
+        this.hash = 31 * Arrays.hashCode(bytes) + encoding;
+    }
+
+    static @NotNull SkinPayload of(@NotNull String text) {
+        return intern(encode(text));
+    }
+
+    private static SkinPayload encode(String text) {
+        try {
+            byte[] decoded = Base64.getDecoder().decode(text);
+            // Only if it encodes back to the very same string; signatures must survive byte for byte.
+            if (Base64.getEncoder().encodeToString(decoded).equals(text)) {
+                return new SkinPayload(BASE64, decoded);
+            }
+        } catch (IllegalArgumentException ignored) {
+            // not base64
+        }
+
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) > 0xFF) return new SkinPayload(UTF_8, text.getBytes(StandardCharsets.UTF_8));
+        }
+        return new SkinPayload(LATIN_1, text.getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    private static SkinPayload intern(SkinPayload payload) {
+        expungeCleared();
+        PayloadReference reference = new PayloadReference(payload, QUEUE);
+        while (true) {
+            PayloadReference existing = INTERNED.putIfAbsent(reference, reference);
+            if (existing == null) return payload;
+            SkinPayload live = existing.get();
+            if (live != null) return live;
+            // Cleared between the lookup and now: drop it and try again.
+            INTERNED.remove(existing, existing);
+        }
+    }
+
+    private static void expungeCleared() {
+        Reference<? extends SkinPayload> cleared;
+        while ((cleared = QUEUE.poll()) != null) {
+            INTERNED.remove(cleared);
+        }
+    }
+
+    /**
+     * Rebuilds the original string. Not cached, so the compact form stays the only copy held.
+     */
+    @NotNull String asString() {
+        return switch (encoding) {
+            case BASE64 -> Base64.getEncoder().encodeToString(bytes);
+            case LATIN_1 -> new String(bytes, StandardCharsets.ISO_8859_1);
+            default -> new String(bytes, StandardCharsets.UTF_8);
+        };
+    }
+
+    /**
+     * Bytes held for this payload.
+     */
+    int size() {
+        return bytes.length;
+    }
+
+    static int internedCount() {
+        expungeCleared();
+        return INTERNED.size();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        return other instanceof SkinPayload payload
+                && hash == payload.hash
+                && encoding == payload.encoding
+                && Arrays.equals(bytes, payload.bytes);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    /**
+     * Interner key: equal while both payloads are reachable and equal, so a cleared reference only matches itself.
+     */
+    private static final class PayloadReference extends WeakReference<SkinPayload> {
+
+        private final int hash;
+
+        private PayloadReference(SkinPayload payload, ReferenceQueue<SkinPayload> queue) {
+            super(payload, queue);
+            this.hash = payload.hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) return true;
+            if (!(other instanceof PayloadReference reference) || hash != reference.hash) return false;
+            SkinPayload payload = get();
+            return payload != null && payload.equals(reference.get());
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package net.democracycraft.democracyLib.internal.runtime;
+
+import net.democracycraft.democracyLib.api.config.runtime.DemocracyRuntimeConfiguration;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Shared worker pool with a fixed thread ceiling and a bounded queue.
+ * <p>
+ * Core threads time out like any other, so an idle server holds no workers; see {@link DemocracyRuntimeConfiguration}
+ * for how the thread and queue limits interact.
+ * <p>
+ * When every thread is busy and the queue is full, {@link #execute(Runnable)} throws
+ * {@link RejectedExecutionException}; {@code AsyncDemocracyServiceImpl.supplyAsync} turns that into a failed future.
+ */
+public final class BoundedDemocracyExecutor extends ThreadPoolExecutor implements DemocracyExecutorMetrics {
+
+    /**
+     * The queue is allocated up front, so its capacity is capped.
+     */
+    public static final int MAX_QUEUE_CAPACITY = 1 << 16;
+
+    private final LongAdder rejected;
+
+    public BoundedDemocracyExecutor(@NotNull DemocracyRuntimeConfiguration configuration) {
+        this(configuration, new LongAdder());
+    }
+
+    private BoundedDemocracyExecutor(DemocracyRuntimeConfiguration configuration, LongAdder rejected) {
+        // Clamped again here, so no configuration can make the ThreadPoolExecutor constructor throw.
+        super(coreThreads(configuration),
+                Math.max(coreThreads(configuration), configuration.getMaxThreads()),
+                Math.max(1, configuration.getKeepAliveSeconds()), TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.clamp(configuration.getQueueCapacity(), 1, MAX_QUEUE_CAPACITY)),
+                new WorkerThreadFactory(),
+                (task, executor) -> {
+                    if (executor.isShutdown()) {
+                        throw new RejectedExecutionException("[DemocracyLib] Shared pool is shut down");
+                    }
+                    rejected.increment();
+                    throw new RejectedExecutionException("[DemocracyLib] Shared pool saturated ("
+                            + executor.getActiveCount() + " active, " + executor.getQueue().size() + " queued)");
+                });
+        this.rejected = rejected;
+        allowCoreThreadTimeOut(true);
+    }
+
+    private static int coreThreads(DemocracyRuntimeConfiguration configuration) {
+        return Math.max(1, configuration.getCoreThreads());
+    }
+
+    @Override
+    public int activeCount() {
+        return getActiveCount();
+    }
+
+    @Override
+    public int queuedCount() {
+        return getQueue().size();
+    }
+
+    @Override
+    public long completedCount() {
+        return getCompletedTaskCount();
+    }
+
+    @Override
+    public long rejectedCount() {
+        return rejected.sum();
+    }
+
+    private static final class WorkerThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(@NotNull Runnable runnable) {
+            Thread thread = new Thread(runnable, "DemocracyLib-Worker-" + counter.incrementAndGet());
+            // never keep the server JVM alive on shutdown
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package net.democracycraft.democracyLib.internal.runtime;
+
+/**
+ * Load counters of the runtime's shared pool.
+ */
+public interface DemocracyExecutorMetrics {
+
+    /**
+     * Tasks currently running.
+     */
+    int activeCount();
+
+    /**
+     * Tasks waiting for a thread.
+     */
+    int queuedCount();
+
+    long completedCount();
+
+    /**
+     * Tasks refused because the pool and its queue were full.
+     */
+    long rejectedCount();
+}
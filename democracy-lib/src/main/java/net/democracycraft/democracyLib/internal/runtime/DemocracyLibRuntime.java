@@ -2,27 +2,110 @@ package net.democracycraft.democracyLib.internal.runtime;
 
 import net.democracycraft.democracyLib.api.cache.MojangServiceDemocracyCache;
 import net.democracycraft.democracyLib.api.config.github.GitHubGistConfiguration;
+import net.democracycraft.democracyLib.api.config.DemocracyConfig;
+import net.democracycraft.democracyLib.api.config.mojang.MojangServiceConfiguration;
+import net.democracycraft.democracyLib.api.config.runtime.DemocracyRuntimeConfiguration;
+import net.democracycraft.democracyLib.internal.cache.MojangCacheJournal;
 import net.democracycraft.democracyLib.internal.cache.MojangServiceDemocracyCacheImpl;
+import net.democracycraft.democracyLib.internal.config.DemocracyConfigManagerImpl;
+import net.democracycraft.democracyLib.internal.config.DemocracyRuntimeConfigurationImpl;
 import net.democracycraft.democracyLib.internal.config.GitHubGistConfigurationImpl;
+import net.democracycraft.democracyLib.internal.config.MojangServiceConfigurationImpl;
+import net.democracycraft.democracyLib.internal.service.mojang.MojangLoginPrefetcher;
+import net.democracycraft.democracyLib.internal.service.mojang.MojangRateLimiter;
+import net.democracycraft.democracyLib.internal.service.mojang.MojangRequestCoalescer;
+import org.bukkit.event.HandlerList;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.net.http.HttpClient;
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * Shared heavy resources (pool/cache/http) for shaded bridge leader.
  */
 public final class DemocracyLibRuntime {
 
+    private static final long CACHE_CLEANUP_MINUTES = 5;
+
     private final ExecutorService commonPool;
-    private final MojangServiceDemocracyCache mojangCache;
+    private final DemocracyExecutorMetrics commonPoolMetrics;
+    private final ScheduledExecutorService scheduler;
+    private final MojangServiceDemocracyCacheImpl mojangCache;
+    private final @Nullable MojangCacheJournal mojangCacheJournal;
+    private final MojangRequestCoalescer mojangRequestCoalescer;
+    private final MojangRateLimiter mojangRateLimiter;
     private final HttpClient httpClient;
     private final GitHubGistConfiguration defaultGitHubGistConfiguration;
+    private final MojangServiceConfiguration mojangConfiguration;
+    private final DemocracyRuntimeConfiguration runtimeConfiguration;
+    private volatile @Nullable MojangLoginPrefetcher mojangLoginPrefetcher;
 
     public DemocracyLibRuntime() {
-        this.commonPool = Executors.newCachedThreadPool();
-        this.mojangCache = new MojangServiceDemocracyCacheImpl(commonPool);
+        this(new DemocracyRuntimeConfigurationImpl(), new MojangServiceConfigurationImpl());
+    }
+
+    public DemocracyLibRuntime(@NotNull DemocracyRuntimeConfiguration runtimeConfiguration,
+                               @NotNull MojangServiceConfiguration mojangConfiguration) {
+        this(runtimeConfiguration, mojangConfiguration, null, Logger.getLogger("DemocracyLib"));
+    }
+
+    /**
+     * @param mojangCacheFile where the Mojang cache is persisted, or {@code null} to keep it in memory only
+     */
+    public DemocracyLibRuntime(@NotNull DemocracyRuntimeConfiguration runtimeConfiguration,
+                               @NotNull MojangServiceConfiguration mojangConfiguration,
+                               @Nullable Path mojangCacheFile,
+                               @NotNull Logger logger) {
+        this.runtimeConfiguration = runtimeConfiguration;
+        this.mojangConfiguration = mojangConfiguration;
+        if (runtimeConfiguration instanceof DemocracyRuntimeConfigurationImpl configured) {
+            for (String setting : configured.invalidSettings()) {
+                logger.warning("[DemocracyLib] Invalid runtime setting " + setting + ".");
+            }
+        }
+        if (runtimeConfiguration.isVirtualThreadsEnabled()) {
+            VirtualThreadDemocracyExecutor virtualExecutor = new VirtualThreadDemocracyExecutor(runtimeConfiguration);
+            this.commonPool = virtualExecutor;
+            this.commonPoolMetrics = virtualExecutor;
+        } else {
+            BoundedDemocracyExecutor boundedExecutor = new BoundedDemocracyExecutor(runtimeConfiguration);
+            this.commonPool = boundedExecutor;
+            this.commonPoolMetrics = boundedExecutor;
+        }
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "DemocracyLib-Scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.mojangCache = new MojangServiceDemocracyCacheImpl(commonPool, mojangConfiguration);
+        scheduler.scheduleAtFixedRate(mojangCache::cleanUp, CACHE_CLEANUP_MINUTES, CACHE_CLEANUP_MINUTES, TimeUnit.MINUTES);
+
+        if (mojangCacheFile != null && mojangConfiguration.isPersistentCacheEnabled()) {
+            MojangCacheJournal journal = new MojangCacheJournal(mojangCacheFile, mojangCache, logger);
+            // Loading happens off-thread so leader startup is never blocked on disk.
+            journal.loadAsync(commonPool);
+            long flushSeconds = mojangConfiguration.getPersistentCacheFlushSeconds();
+            long compactionMinutes = mojangConfiguration.getPersistentCacheCompactionMinutes();
+            scheduler.scheduleAtFixedRate(journal::flush, flushSeconds, flushSeconds, TimeUnit.SECONDS);
+            scheduler.scheduleAtFixedRate(journal::compact, compactionMinutes, compactionMinutes, TimeUnit.MINUTES);
+            this.mojangCacheJournal = journal;
+        } else {
+            this.mojangCacheJournal = null;
+        }
+
+        this.mojangRequestCoalescer = new MojangRequestCoalescer();
+        this.mojangRateLimiter = new MojangRateLimiter(mojangConfiguration, commonPool, scheduler);
         this.httpClient = HttpClient.newBuilder()
                 .connectTimeout(Duration.ofSeconds(10))
                 .version(HttpClient.Version.HTTP_1_1)
@@ -30,14 +113,84 @@ public final class DemocracyLibRuntime {
         this.defaultGitHubGistConfiguration = new GitHubGistConfigurationImpl();
     }
 
+    /**
+     * Creates a runtime configured from the leader plugin's data folder.
+     * <p>
+     * Falls back to defaults if the configuration cannot be loaded, so a broken file never prevents leader election.
+     */
+    public static @NotNull DemocracyLibRuntime forPlugin(@NotNull Plugin plugin) {
+        DemocracyConfigManagerImpl configManager = new DemocracyConfigManagerImpl(plugin.getLogger());
+        DemocracyRuntimeConfiguration runtimeConfiguration = loadOrDefault(plugin, configManager,
+                DemocracyRuntimeConfigurationImpl.class, DemocracyRuntimeConfigurationImpl::new);
+        MojangServiceConfiguration mojangConfiguration = loadOrDefault(plugin, configManager,
+                MojangServiceConfigurationImpl.class, MojangServiceConfigurationImpl::new);
+
+        Path mojangCacheFile = plugin.getDataFolder().toPath().resolve("DemocracyLib").resolve("mojang-cache.log");
+        DemocracyLibRuntime runtime = new DemocracyLibRuntime(runtimeConfiguration, mojangConfiguration, mojangCacheFile, plugin.getLogger());
+        if (mojangConfiguration.isLoginPrefetchEnabled()) {
+            runtime.startLoginPrefetch(plugin);
+        }
+        return runtime;
+    }
+
+    /**
+     * Starts warming the Mojang cache from joining players' login profiles. The listener is registered
+     * on the leader plugin and unregistered on {@link #shutdown()}.
+     */
+    public void startLoginPrefetch(@NotNull Plugin plugin) {
+        if (mojangLoginPrefetcher != null) return;
+        MojangLoginPrefetcher prefetcher = new MojangLoginPrefetcher(mojangCache, mojangConfiguration);
+        try {
+            plugin.getServer().getPluginManager().registerEvents(prefetcher, plugin);
+            this.mojangLoginPrefetcher = prefetcher;
+        } catch (RuntimeException e) {
+            // e.g. bootstrap ran before the leader plugin was enabled
+            plugin.getLogger().log(Level.WARNING, "[DemocracyLib] Could not register the Mojang login prefetcher.", e);
+        }
+    }
+
+    private static <ConfigType extends DemocracyConfig> @NotNull ConfigType loadOrDefault(@NotNull Plugin plugin,
+                                                                                         @NotNull DemocracyConfigManagerImpl configManager,
+                                                                                         @NotNull Class<ConfigType> configClass,
+                                                                                         @NotNull Supplier<ConfigType> defaults) {
+        try {
+            return configManager.createConfig(plugin, configClass);
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.WARNING, "[DemocracyLib] Failed to load " + configClass.getSimpleName() + ", using defaults.", e);
+            return defaults.get();
+        }
+    }
+
     public ExecutorService getCommonPool() {
         return commonPool;
     }
 
+    /**
+     * Active/queued/completed/rejected counters of {@link #getCommonPool()}.
+     */
+    public DemocracyExecutorMetrics getCommonPoolMetrics() {
+        return commonPoolMetrics;
+    }
+
+    public DemocracyRuntimeConfiguration getRuntimeConfiguration() {
+        return runtimeConfiguration;
+    }
+
     public MojangServiceDemocracyCache getMojangCache() {
         return mojangCache;
     }
 
+    public MojangRequestCoalescer getMojangRequestCoalescer() {
+        return mojangRequestCoalescer;
+    }
+
+    /**
+     * Shared by every plugin's MojangService, so all of them draw from the same per-endpoint request budget.
+     */
+    public MojangRateLimiter getMojangRateLimiter() {
+        return mojangRateLimiter;
+    }
+
     public HttpClient getHttpClient() {
         return httpClient;
     }
@@ -46,7 +199,45 @@ public final class DemocracyLibRuntime {
         return defaultGitHubGistConfiguration;
     }
 
+    public MojangServiceConfiguration getMojangConfiguration() {
+        return mojangConfiguration;
+    }
+
+    /**
+     * The login prefetcher, if enabled and registered.
+     */
+    public @Nullable MojangLoginPrefetcher getMojangLoginPrefetcher() {
+        return mojangLoginPrefetcher;
+    }
+
+    /**
+     * The Mojang cache as journal records, for handing it to the next leader; see {@link MojangCacheJournal#snapshot}.
+     */
+    public @NotNull List<String> exportMojangCache() {
+        return MojangCacheJournal.snapshot(mojangCache);
+    }
+
+    /**
+     * Warms the Mojang cache from another runtime's {@link #exportMojangCache()}.
+     *
+     * @return how many entries were stored.
+     */
+    public int importMojangCache(@NotNull Iterable<String> records) {
+        return MojangCacheJournal.restore(mojangCache, records);
+    }
+
     public void shutdown() {
+        MojangLoginPrefetcher prefetcher = mojangLoginPrefetcher;
+        if (prefetcher != null) {
+            HandlerList.unregisterAll(prefetcher);
+            mojangLoginPrefetcher = null;
+        }
+        if (mojangCacheJournal != null) {
+            mojangCacheJournal.close();
+        }
+        // Before the pools go: nothing could drain the lookups still waiting for a token afterwards.
+        mojangRateLimiter.close();
+        scheduler.shutdown();
         commonPool.shutdown();
     }
 }
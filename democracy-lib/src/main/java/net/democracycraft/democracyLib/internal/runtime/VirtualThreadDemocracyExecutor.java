@@ -0,0 +1,128 @@
+package net.democracycraft.democracyLib.internal.runtime;
+
+import net.democracycraft.democracyLib.api.config.runtime.DemocracyRuntimeConfiguration;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Shared executor that starts one virtual thread per task.
+ * <p>
+ * There is no global thread limit; instead each service caps its own concurrency with permits from
+ * {@link #newServicePermits()}. Tasks waiting for a permit park their virtual thread and are reported as queued.
+ */
+public final class VirtualThreadDemocracyExecutor extends AbstractExecutorService implements DemocracyExecutorMetrics {
+
+    private final ExecutorService delegate = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("DemocracyLib-Virtual-", 0).factory());
+    private final int serviceConcurrencyLimit;
+
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public VirtualThreadDemocracyExecutor(@NotNull DemocracyRuntimeConfiguration configuration) {
+        this.serviceConcurrencyLimit = configuration.getServiceConcurrencyLimit();
+    }
+
+    /**
+     * Permits for one service; pass them to {@link #callWithPermit(Semaphore, Supplier)} from that service's tasks.
+     */
+    public @NotNull Semaphore newServicePermits() {
+        return new Semaphore(serviceConcurrencyLimit);
+    }
+
+    /**
+     * Runs {@code task} once one of the service's permits is free. Must be called on a thread of this executor.
+     */
+    public <T> T callWithPermit(@NotNull Semaphore permits, @NotNull Supplier<T> task) {
+        if (!permits.tryAcquire()) {
+            waiting.incrementAndGet();
+            active.decrementAndGet();
+            try {
+                permits.acquireUninterruptibly();
+            } finally {
+                active.incrementAndGet();
+                waiting.decrementAndGet();
+            }
+        }
+        try {
+            return task.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    @Override
+    public void execute(@NotNull Runnable command) {
+        try {
+            delegate.execute(() -> {
+                active.incrementAndGet();
+                try {
+                    command.run();
+                } finally {
+                    active.decrementAndGet();
+                    completed.increment();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw e;
+        }
+    }
+
+    @Override
+    public int activeCount() {
+        return active.get();
+    }
+
+    @Override
+    public int queuedCount() {
+        return waiting.get();
+    }
+
+    @Override
+    public long completedCount() {
+        return completed.sum();
+    }
+
+    @Override
+    public long rejectedCount() {
+        return rejected.sum();
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public @NotNull List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, @NotNull TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+}
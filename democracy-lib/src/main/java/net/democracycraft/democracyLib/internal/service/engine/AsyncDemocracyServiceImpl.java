@@ -2,40 +2,82 @@ package net.democracycraft.democracyLib.internal.service.engine;
 
 import net.democracycraft.democracyLib.api.service.engine.AsyncDemocracyService;
 import net.democracycraft.democracyLib.api.service.engine.PluginBoundDemocracyService;
+import net.democracycraft.democracyLib.internal.runtime.VirtualThreadDemocracyExecutor;
 import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
 import java.util.function.Supplier;
 
 public abstract class AsyncDemocracyServiceImpl implements AsyncDemocracyService {
 
     protected final ExecutorService executor;
+    /**
+     * Caps this service's concurrent tasks when the runtime uses virtual threads; {@code null} on the bounded pool.
+     */
+    private final @Nullable VirtualThreadDemocracyExecutor virtualExecutor;
+    private final @Nullable Semaphore permits;
+    /**
+     * Label worker threads carry while running this service's tasks. Built on first use because
+     * {@link #getServiceName()} usually depends on subclass fields; racing threads compute the same value.
+     */
+    private volatile @Nullable String threadName;
 
     protected AsyncDemocracyServiceImpl(ExecutorService executor) {
         this.executor = executor;
+        if (executor instanceof VirtualThreadDemocracyExecutor virtual) {
+            this.virtualExecutor = virtual;
+            this.permits = virtual.newServicePermits();
+        } else {
+            this.virtualExecutor = null;
+            this.permits = null;
+        }
     }
 
+    /**
+     * Runs {@code task} on the shared executor. If the executor rejects it (pool and queue full),
+     * the returned future fails with {@link RejectedExecutionException} instead of the call throwing.
+     */
     protected <T> CompletableFuture<T> supplyAsync(Supplier<T> task) {
+        try {
+            return submit(task);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
         return CompletableFuture.supplyAsync(() -> {
             // rename thread
             Thread currentThread = Thread.currentThread();
             String oldName = currentThread.getName();
-
-
-            String newName = generateThreadName();
-            currentThread.setName(newName);
+            String newName = threadName();
+            // Only a nested task finds the label already set; it neither renames nor restores the thread.
+            boolean renamed = !newName.equals(oldName);
+            if (renamed) currentThread.setName(newName);
 
             try {
                 // execute task
-                return task.get();
+                return virtualExecutor == null ? task.get() : virtualExecutor.callWithPermit(permits, task);
             } finally {
                 // restore name
-                currentThread.setName(oldName);
+                if (renamed) currentThread.setName(oldName);
             }
         }, executor);
     }
 
+    private String threadName() {
+        String name = threadName;
+        if (name == null) {
+            name = generateThreadName();
+            threadName = name;
+        }
+        return name;
+    }
+
     private String generateThreadName() {
         String serviceName = getServiceName();
         String boundPluginName = "DemocracyLibProcess"; //default
@@ -0,0 +1,38 @@
+package net.democracycraft.democracyLib.internal.service.mojang;
+
+import com.destroystokyo.paper.profile.PlayerProfile;
+import net.democracycraft.democracyLib.api.data.SkinDto;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.UUID;
+
+/**
+ * Reads skins from online players and Paper's profile cache.
+ */
+public final class BukkitServerSkinSource implements MojangServerSkinSource {
+
+    public static final BukkitServerSkinSource INSTANCE = new BukkitServerSkinSource();
+
+    private BukkitServerSkinSource() {
+    }
+
+    @Override
+    public @Nullable SkinDto onlinePlayerSkin(@NotNull UUID uniqueIdentifier) {
+        if (Bukkit.getServer() == null) return null;
+        Player player = Bukkit.getPlayer(uniqueIdentifier);
+        return player == null ? null : MojangServerSkinSource.texturesOf(player.getPlayerProfile());
+    }
+
+    @Override
+    public @Nullable SkinDto cachedProfileSkin(@NotNull UUID uniqueIdentifier) {
+        if (Bukkit.getServer() == null) return null;
+        PlayerProfile profile = Bukkit.createProfile(uniqueIdentifier);
+        // completeFromCache only reads Paper's caches; complete() would call Mojang.
+        profile.completeFromCache();
+        if (!profile.hasTextures()) return null;
+        return MojangServerSkinSource.texturesOf(profile);
+    }
+}
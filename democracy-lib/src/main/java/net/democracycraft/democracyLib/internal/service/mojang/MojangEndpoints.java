@@ -0,0 +1,27 @@
+package net.democracycraft.democracyLib.internal.service.mojang;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * Base URLs used by {@link MojangServiceImpl}.
+ * <p>
+ * Production code uses {@link #DEFAULT}; tests point these at a local stub server.
+ */
+public record MojangEndpoints(@NotNull String uuidToNameUrl,
+                              @NotNull String nameToUuidUrl,
+                              @NotNull String bulkNameToUuidUrl) {
+
+    public static final MojangEndpoints DEFAULT = new MojangEndpoints(
+            "https://sessionserver.mojang.com/session/minecraft/profile/",
+            "https://api.mojang.com/users/profiles/minecraft/",
+            "https://api.mojang.com/profiles/minecraft"
+    );
+
+    public MojangEndpoints {
+        Objects.requireNonNull(uuidToNameUrl, "uuidToNameUrl");
+        Objects.requireNonNull(nameToUuidUrl, "nameToUuidUrl");
+        Objects.requireNonNull(bulkNameToUuidUrl, "bulkNameToUuidUrl");
+    }
+}
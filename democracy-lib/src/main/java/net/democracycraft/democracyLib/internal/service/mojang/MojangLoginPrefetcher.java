@@ -0,0 +1,129 @@
+package net.democracycraft.democracyLib.internal.service.mojang;
+
+import com.destroystokyo.paper.profile.PlayerProfile;
+import net.democracycraft.democracyLib.api.config.mojang.MojangServiceConfiguration;
+import net.democracycraft.democracyLib.api.data.SkinDto;
+import net.democracycraft.democracyLib.internal.cache.MojangNameKeys;
+import net.democracycraft.democracyLib.internal.cache.MojangServiceDemocracyCacheImpl;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Warms the shared Mojang cache from the profile a joining player was authenticated with, so the
+ * lookups plugins make right after a join are cache hits. No HTTP request is ever made.
+ * <p>
+ * Only Mojang (version 4) UUIDs are cached, so offline-mode profiles never shadow real ones.
+ * Warming is capped per minute: during a join flood the surplus logins are simply not prefetched,
+ * and prefetched entries only enter the cache's probation segment, so they cannot evict entries in use.
+ */
+public final class MojangLoginPrefetcher implements Listener {
+
+    private static final long WINDOW_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private final MojangServiceDemocracyCacheImpl cache;
+    private final int maxProfilesPerMinute;
+    private final LongSupplier clock;
+
+    private final LongAdder warmedCount = new LongAdder();
+    private final LongAdder skippedCount = new LongAdder();
+
+    // Guarded by this.
+    private long windowStartMillis;
+    private int windowCount;
+
+    public MojangLoginPrefetcher(@NotNull MojangServiceDemocracyCacheImpl cache, @NotNull MojangServiceConfiguration configuration) {
+        this(cache, configuration, System::currentTimeMillis);
+    }
+
+    MojangLoginPrefetcher(@NotNull MojangServiceDemocracyCacheImpl cache, @NotNull MojangServiceConfiguration configuration, @NotNull LongSupplier clock) {
+        this.cache = cache;
+        this.maxProfilesPerMinute = configuration.getLoginPrefetchMaxPerMinute();
+        this.clock = clock;
+        this.windowStartMillis = clock.getAsLong();
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPreLogin(@NotNull AsyncPlayerPreLoginEvent event) {
+        // Logins denied by whitelist/ban/anti-bot plugins are never cached.
+        if (event.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED) return;
+        warm(event.getPlayerProfile());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(@NotNull PlayerJoinEvent event) {
+        // Proxies may only complete the profile (e.g. textures) after pre-login; unchanged entries are not rewritten.
+        warm(event.getPlayer().getPlayerProfile());
+    }
+
+    private void warm(@Nullable PlayerProfile profile) {
+        if (profile == null) return;
+        warm(profile.getId(), profile.getName(), MojangServerSkinSource.texturesOf(profile));
+    }
+
+    /**
+     * Stores the given login profile in the cache.
+     *
+     * @param skin the profile's textures, stored as given.
+     * @return whether anything was written.
+     */
+    boolean warm(@Nullable UUID uniqueIdentifier, @Nullable String name, @Nullable SkinDto skin) {
+        if (uniqueIdentifier == null || uniqueIdentifier.version() != 4) return false;
+
+        boolean nameChanged = name != null && !name.equals(cache.getUniqueIdentifierToNameMap().get(uniqueIdentifier));
+        boolean skinChanged = skin != null && !skin.equals(cache.getUniqueIdentifierToSkinMap().get(uniqueIdentifier));
+        if (!nameChanged && !skinChanged) return false;
+
+        if (!tryAcquire()) {
+            skippedCount.increment();
+            return false;
+        }
+
+        if (nameChanged) {
+            String normalizedName = MojangNameKeys.normalize(name);
+            cache.getUniqueIdentifierToNameMap().put(uniqueIdentifier, name);
+            cache.getNameToUniqueIdentifierMap().put(normalizedName, uniqueIdentifier);
+            cache.getUnknownNames().remove(normalizedName);
+        }
+        if (skinChanged) {
+            cache.getUniqueIdentifierToSkinMap().put(uniqueIdentifier, skin);
+        }
+        cache.getUnknownUniqueIdentifiers().remove(uniqueIdentifier);
+        warmedCount.increment();
+        return true;
+    }
+
+    private synchronized boolean tryAcquire() {
+        long now = clock.getAsLong();
+        if (now - windowStartMillis >= WINDOW_MILLIS) {
+            windowStartMillis = now;
+            windowCount = 0;
+        }
+        if (windowCount >= maxProfilesPerMinute) return false;
+        windowCount++;
+        return true;
+    }
+
+    /**
+     * Login profiles written to the cache.
+     */
+    public long warmedCount() {
+        return warmedCount.sum();
+    }
+
+    /**
+     * Login profiles not written because the per-minute cap was reached.
+     */
+    public long skippedCount() {
+        return skippedCount.sum();
+    }
+}
@@ -0,0 +1,360 @@
+package net.democracycraft.democracyLib.internal.service.mojang;
+
+import net.democracycraft.democracyLib.api.config.mojang.MojangServiceConfiguration;
+import net.democracycraft.democracyLib.api.service.mojang.MojangRateLimitedException;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Token-bucket limiter shared by every MojangService of the leader runtime.
+ * <p>
+ * Each {@link Route} has its own bucket. A request that finds a free token and an empty queue is started on the
+ * submitting thread; nothing else is. Requests beyond the limit are queued, not failed, and dispatched as tokens
+ * refill by a drain task on the given executor, which the scheduler starts once the next token is due. A request
+ * that fails with {@link MojangRateLimitedException} pauses its route for the server's {@code Retry-After}, or an
+ * exponential back-off with jitter, and is retried ahead of the queue. Once retries are exhausted the caller's
+ * future fails with that exception.
+ */
+public final class MojangRateLimiter {
+
+    /**
+     * Mojang hosts with separate rate limits.
+     */
+    public enum Route {
+        /** {@code sessionserver.mojang.com}: names and skins by UUID. */
+        SESSION_SERVER,
+        /** {@code api.mojang.com}: UUIDs by name, single and bulk. */
+        PROFILE_API
+    }
+
+    private final Map<Route, Bucket> buckets = new EnumMap<>(Route.class);
+    private final int maxRetries;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+    private final LongSupplier nanoClock;
+    private final Executor executor;
+    private final ScheduledExecutorService scheduler;
+    private volatile boolean closed;
+
+    /**
+     * Drains queues on a scheduler thread shared by every limiter created this way.
+     */
+    public MojangRateLimiter(@NotNull MojangServiceConfiguration configuration) {
+        this(configuration, DefaultScheduler.INSTANCE, DefaultScheduler.INSTANCE);
+    }
+
+    /**
+     * @param executor  runs the drain loop of queued requests
+     * @param scheduler delays the drain until the next token is due
+     */
+    public MojangRateLimiter(@NotNull MojangServiceConfiguration configuration,
+                             @NotNull Executor executor,
+                             @NotNull ScheduledExecutorService scheduler) {
+        this(configuration, executor, scheduler, System::nanoTime);
+    }
+
+    MojangRateLimiter(@NotNull MojangServiceConfiguration configuration,
+                      @NotNull Executor executor,
+                      @NotNull ScheduledExecutorService scheduler,
+                      @NotNull LongSupplier nanoClock) {
+        this.executor = executor;
+        this.scheduler = scheduler;
+        this.nanoClock = nanoClock;
+        this.maxRetries = configuration.getRateLimitMaxRetries();
+        this.initialBackoffMillis = configuration.getRateLimitInitialBackoffMillis();
+        this.maxBackoffMillis = Math.max(initialBackoffMillis, configuration.getRateLimitMaxBackoffMillis());
+        buckets.put(Route.SESSION_SERVER, new Bucket(configuration.getSessionServerRequestsPerMinute()));
+        buckets.put(Route.PROFILE_API, new Bucket(configuration.getProfileApiRequestsPerMinute()));
+    }
+
+    /**
+     * Runs {@code request} once the route has a free token.
+     *
+     * @param request starts the HTTP call; may be invoked again if Mojang answers with 429.
+     */
+    public <T> @NotNull CompletableFuture<T> submit(@NotNull Route route, @NotNull Supplier<CompletableFuture<T>> request) {
+        PendingRequest<T> pending = new PendingRequest<>(request);
+        buckets.get(route).submit(pending);
+        return pending.result;
+    }
+
+    /**
+     * Sends every queued request now, whatever the token budget, and every later one as soon as it is submitted.
+     * <p>
+     * Called by a runtime shutting down: its executor and scheduler are about to go, so nothing would drain the
+     * queues later. Requests rejected with HTTP 429 after this are not retried.
+     */
+    public void close() {
+        closed = true;
+        for (Bucket bucket : buckets.values()) {
+            bucket.flush();
+        }
+    }
+
+    /**
+     * Requests waiting for a token on the given route.
+     */
+    public int queueDepth(@NotNull Route route) {
+        return buckets.get(route).queueDepth();
+    }
+
+    /**
+     * Requests that could not be sent immediately because the route was out of tokens or paused.
+     */
+    public long throttledCount(@NotNull Route route) {
+        return buckets.get(route).throttled.sum();
+    }
+
+    /**
+     * HTTP 429 responses received on the given route, including ones that were retried successfully.
+     */
+    public long rateLimitedCount(@NotNull Route route) {
+        return buckets.get(route).rateLimited.sum();
+    }
+
+    private long backoffMillis(int attempt) {
+        long ceiling = initialBackoffMillis << Math.min(attempt - 1, 20);
+        ceiling = Math.min(maxBackoffMillis, ceiling);
+        // Jitter spreads the retries of many rate-limited requests instead of releasing them together.
+        return ThreadLocalRandom.current().nextLong(ceiling / 2, ceiling + 1);
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+    }
+
+    private final class Bucket {
+
+        private final double capacity;
+        private final double tokensPerNano;
+
+        private final ArrayDeque<PendingRequest<?>> queue = new ArrayDeque<>();
+        private final LongAdder throttled = new LongAdder();
+        private final LongAdder rateLimited = new LongAdder();
+
+        // Guarded by this bucket's monitor.
+        private double tokens;
+        private long lastRefillNanos;
+        private long pausedUntilNanos;
+        private boolean drainScheduled;
+
+        private Bucket(int requestsPerMinute) {
+            // Allow bursts of up to ten seconds' worth of requests.
+            this.capacity = Math.max(1, requestsPerMinute / 6.0);
+            this.tokensPerNano = requestsPerMinute / (double) TimeUnit.MINUTES.toNanos(1);
+            this.tokens = capacity;
+            this.lastRefillNanos = nanoClock.getAsLong();
+            this.pausedUntilNanos = lastRefillNanos;
+        }
+
+        private final Runnable drainTask = this::drain;
+
+        private void submit(PendingRequest<?> request) {
+            if (closed) {
+                dispatch(request);
+                return;
+            }
+            synchronized (this) {
+                if (!queue.isEmpty() || !hasToken()) {
+                    throttled.increment();
+                    queue.addLast(request);
+                    request = null;
+                } else {
+                    tokens -= 1;
+                }
+            }
+            if (request == null) {
+                scheduleDrain();
+            } else {
+                // Only the caller's own request runs inline; the backlog is left to the drain task.
+                dispatch(request);
+            }
+        }
+
+        private void flush() {
+            List<PendingRequest<?>> pending;
+            synchronized (this) {
+                pending = new ArrayList<>(queue);
+                queue.clear();
+            }
+            for (PendingRequest<?> request : pending) {
+                dispatch(request);
+            }
+        }
+
+        private void retry(PendingRequest<?> request) {
+            synchronized (this) {
+                queue.addFirst(request);
+            }
+            scheduleDrain();
+        }
+
+        private int queueDepth() {
+            synchronized (this) {
+                return queue.size();
+            }
+        }
+
+        private void pause(long delayMillis) {
+            synchronized (this) {
+                long until = nanoClock.getAsLong() + TimeUnit.MILLISECONDS.toNanos(delayMillis);
+                if (until - pausedUntilNanos <= 0) return;
+                pausedUntilNanos = until;
+                // Start refilling only once the pause is over.
+                tokens = 0;
+                lastRefillNanos = until;
+            }
+        }
+
+        private void scheduleDrain() {
+            long waitNanos;
+            synchronized (this) {
+                if (drainScheduled || queue.isEmpty()) return;
+                drainScheduled = true;
+                waitNanos = hasToken() ? 0 : nanosUntilToken();
+            }
+            startDrain(waitNanos);
+        }
+
+        private void startDrain(long waitNanos) {
+            try {
+                if (waitNanos <= 0) {
+                    executor.execute(drainTask);
+                } else {
+                    scheduler.schedule(() -> startDrain(0), waitNanos, TimeUnit.NANOSECONDS);
+                }
+            } catch (RejectedExecutionException e) {
+                failQueued(e);
+            }
+        }
+
+        /**
+         * Dispatches queued requests while tokens last, then hands over to the scheduler. Runs on the executor.
+         */
+        private void drain() {
+            while (true) {
+                PendingRequest<?> next;
+                long waitNanos;
+                synchronized (this) {
+                    if (queue.isEmpty()) {
+                        drainScheduled = false;
+                        return;
+                    }
+                    if (hasToken()) {
+                        tokens -= 1;
+                        next = queue.pollFirst();
+                        waitNanos = 0;
+                    } else {
+                        next = null;
+                        waitNanos = nanosUntilToken();
+                    }
+                }
+
+                if (next == null) {
+                    startDrain(waitNanos);
+                    return;
+                }
+                dispatch(next);
+            }
+        }
+
+        /**
+         * The executor or scheduler is gone, e.g. the runtime shut down: nothing would ever send the queue.
+         */
+        private void failQueued(RejectedExecutionException cause) {
+            List<PendingRequest<?>> failed;
+            synchronized (this) {
+                failed = new ArrayList<>(queue);
+                queue.clear();
+                drainScheduled = false;
+            }
+            for (PendingRequest<?> pending : failed) {
+                pending.result.completeExceptionally(cause);
+            }
+        }
+
+        private boolean hasToken() {
+            long now = nanoClock.getAsLong();
+            if (now - pausedUntilNanos < 0) return false;
+            tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * tokensPerNano);
+            lastRefillNanos = now;
+            return tokens >= 1;
+        }
+
+        private long nanosUntilToken() {
+            long now = nanoClock.getAsLong();
+            long untilRefill = (long) Math.ceil((1 - tokens) / tokensPerNano);
+            return Math.max(pausedUntilNanos - now, Math.max(1, untilRefill));
+        }
+
+        private <T> void dispatch(PendingRequest<T> pending) {
+            CompletableFuture<T> attempt;
+            try {
+                attempt = pending.request.get();
+            } catch (Throwable t) {
+                attempt = CompletableFuture.failedFuture(t);
+            }
+
+            attempt.whenComplete((value, throwable) -> {
+                if (throwable == null) {
+                    pending.result.complete(value);
+                    return;
+                }
+
+                Throwable cause = unwrap(throwable);
+                if (!(cause instanceof MojangRateLimitedException rateLimitedException)) {
+                    pending.result.completeExceptionally(cause);
+                    return;
+                }
+
+                rateLimited.increment();
+                int attempts = ++pending.attempts;
+                long retryAfter = rateLimitedException.getRetryAfterMillis();
+                pause(retryAfter > 0 ? retryAfter : backoffMillis(attempts));
+
+                if (attempts > maxRetries || closed) {
+                    pending.result.completeExceptionally(cause);
+                    return;
+                }
+                retry(pending);
+            });
+        }
+    }
+
+    private static final class DefaultScheduler {
+
+        private static final ScheduledExecutorService INSTANCE = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "DemocracyLib-MojangRateLimiter");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static final class PendingRequest<T> {
+
+        private final Supplier<CompletableFuture<T>> request;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        // Only touched by the completion of the previous attempt.
+        private int attempts;
+
+        private PendingRequest(Supplier<CompletableFuture<T>> request) {
+            this.request = request;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package net.democracycraft.democracyLib.internal.service.mojang;
+
+import net.democracycraft.democracyLib.api.data.SkinDto;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * In-flight lookup table shared by every {@link MojangServiceImpl} of the leader runtime.
+ * <p>
+ * Concurrent cache misses for the same key join the first caller's request instead of issuing
+ * their own HTTP round trip. Entries are removed as soon as the underlying lookup completes, so
+ * later callers are served by the cache again.
+ */
+public final class MojangRequestCoalescer {
+
+    private final Map<UUID, CompletableFuture<String>> nameLookups = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<UUID>> uniqueIdentifierLookups = new ConcurrentHashMap<>();
+    private final Map<UUID, CompletableFuture<SkinDto>> skinLookups = new ConcurrentHashMap<>();
+
+    public @NotNull CompletableFuture<String> name(@NotNull UUID uniqueIdentifier, @NotNull Supplier<CompletableFuture<String>> loader) {
+        return coalesce(nameLookups, uniqueIdentifier, loader);
+    }
+
+    /**
+     * @param normalizedName lower-cased player name, so lookups differing only by case share a request.
+     */
+    public @NotNull CompletableFuture<UUID> uniqueIdentifier(@NotNull String normalizedName, @NotNull Supplier<CompletableFuture<UUID>> loader) {
+        return coalesce(uniqueIdentifierLookups, normalizedName, loader);
+    }
+
+    public @NotNull CompletableFuture<SkinDto> skin(@NotNull UUID uniqueIdentifier, @NotNull Supplier<CompletableFuture<SkinDto>> loader) {
+        return coalesce(skinLookups, uniqueIdentifier, loader);
+    }
+
+    /**
+     * @return number of lookups currently waiting on the network.
+     */
+    public int inFlightCount() {
+        return nameLookups.size() + uniqueIdentifierLookups.size() + skinLookups.size();
+    }
+
+    private static <KeyType, ValueType> @NotNull CompletableFuture<ValueType> coalesce(@NotNull Map<KeyType, CompletableFuture<ValueType>> inFlight,
+                                                                                    @NotNull KeyType key,
+                                                                                    @NotNull Supplier<CompletableFuture<ValueType>> loader) {
+        CompletableFuture<ValueType> existing = inFlight.get(key);
+        if (existing != null) return existing.copy();
+
+        CompletableFuture<ValueType> shared = new CompletableFuture<>();
+        existing = inFlight.putIfAbsent(key, shared);
+        if (existing != null) return existing.copy();
+
+        CompletableFuture<ValueType> loading;
+        try {
+            loading = loader.get();
+        } catch (Throwable t) {
+            loading = CompletableFuture.failedFuture(t);
+        }
+
+        loading.whenComplete((value, throwable) -> {
+            // Unregister first: once the shared future completes, new callers must hit the cache, not a finished entry.
+            inFlight.remove(key, shared);
+            if (throwable != null) {
+                shared.completeExceptionally(throwable);
+            } else {
+                shared.complete(value);
+            }
+        });
+
+        // Callers get a dependent copy so one of them cancelling/completing it cannot affect the others.
+        return shared.copy();
+    }
+}
@@ -0,0 +1,53 @@
+package net.democracycraft.democracyLib.internal.service.mojang;
+
+import com.destroystokyo.paper.profile.PlayerProfile;
+import com.destroystokyo.paper.profile.ProfileProperty;
+import net.democracycraft.democracyLib.api.data.SkinDto;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.UUID;
+
+/**
+ * Skins the server already holds, consulted by {@link MojangServiceImpl#getSkin} before its own cache and the network.
+ */
+public interface MojangServerSkinSource {
+
+    /**
+     * Source that knows no skins, e.g. outside a running server.
+     */
+    MojangServerSkinSource NONE = new MojangServerSkinSource() {
+        @Override
+        public @Nullable SkinDto onlinePlayerSkin(@NotNull UUID uniqueIdentifier) {
+            return null;
+        }
+
+        @Override
+        public @Nullable SkinDto cachedProfileSkin(@NotNull UUID uniqueIdentifier) {
+            return null;
+        }
+    };
+
+    /**
+     * Signed textures of the online player with this UUID, as authenticated at login.
+     */
+    @Nullable SkinDto onlinePlayerSkin(@NotNull UUID uniqueIdentifier);
+
+    /**
+     * Textures from the server's own profile cache; never makes a network request.
+     */
+    @Nullable SkinDto cachedProfileSkin(@NotNull UUID uniqueIdentifier);
+
+    /**
+     * The {@code textures} property of a profile, if it has one.
+     */
+    static @Nullable SkinDto texturesOf(@Nullable PlayerProfile profile) {
+        if (profile == null) return null;
+        for (ProfileProperty property : profile.getProperties()) {
+            if ("textures".equals(property.getName())) {
+                return SkinDto.of(property.getValue(), property.getSignature());
+            }
+        }
+        return null;
+    }
+}
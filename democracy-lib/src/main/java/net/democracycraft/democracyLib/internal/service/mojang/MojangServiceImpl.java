@@ -2,141 +2,466 @@ package net.democracycraft.democracyLib.internal.service.mojang;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import net.democracycraft.democracyLib.api.cache.MojangServiceDemocracyCache;
+import net.democracycraft.democracyLib.api.config.mojang.MojangServiceConfiguration;
 import net.democracycraft.democracyLib.api.data.SkinDto;
+import net.democracycraft.democracyLib.api.service.mojang.MojangRateLimitedException;
 import net.democracycraft.democracyLib.api.service.mojang.MojangService;
+import net.democracycraft.democracyLib.internal.cache.BoundedExpiringMap;
+import net.democracycraft.democracyLib.internal.cache.CachedCompletedFuture;
+import net.democracycraft.democracyLib.internal.cache.MojangNameKeys;
+import net.democracycraft.democracyLib.internal.config.MojangServiceConfigurationImpl;
 import net.democracycraft.democracyLib.internal.service.engine.AsyncDemocracyServiceImpl;
 import org.bukkit.plugin.Plugin;
 import org.jetbrains.annotations.NotNull;
 import org.jspecify.annotations.Nullable;
 
-import java.io.BufferedReader;
-import java.io.IOException;
+import java.io.ByteArrayInputStream;
 import java.io.InputStreamReader;
-import java.net.HttpURLConnection;
 import java.net.URI;
-import java.net.URL;
-import java.util.UUID;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
 import java.util.logging.Level;
 
+import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
+import static java.net.HttpURLConnection.HTTP_NO_CONTENT;
+import static java.net.HttpURLConnection.HTTP_OK;
+
 public class MojangServiceImpl<PluginType extends Plugin> extends AsyncDemocracyServiceImpl implements MojangService<PluginType> {
 
-    private static final String UUID_TO_NAME_URL = "https://sessionserver.mojang.com/session/minecraft/profile/";
-    private static final String NAME_TO_UUID_URL = "https://api.mojang.com/users/profiles/minecraft/";
-    private static final int TIMEOUT_MS = 5000;
+    /**
+     * Where a {@link #getSkin} request was answered. DemocracyLib's cache is consulted first; on a miss,
+     * the server's skins are tried in the order below before the network.
+     */
+    public enum SkinTier {
+        /** Textures of an online player's login profile. */
+        ONLINE_PLAYER,
+        /** Paper's own profile cache. */
+        SERVER_PROFILE_CACHE,
+        /** DemocracyLib's shared cache, including remembered unknown players. */
+        DEMOCRACY_CACHE,
+        /** A sessionserver request (possibly shared with concurrent lookups). */
+        NETWORK
+    }
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(5);
+    /**
+     * Maximum number of names accepted by Mojang's bulk profile endpoint per request.
+     */
+    private static final int BULK_CHUNK_SIZE = 10;
 
     private final PluginType plugin;
 
     private final MojangServiceDemocracyCache mojangServiceDemocracyCache;
+    private final MojangRequestCoalescer requestCoalescer;
+    private final MojangRateLimiter rateLimiter;
+    private final HttpClient httpClient;
+    private final MojangEndpoints endpoints;
+    /**
+     * Only present when UUID batching is enabled in the configuration.
+     */
+    private final @Nullable MojangUuidBatcher uuidBatcher;
+    private final boolean negativeCachingEnabled;
+    private final MojangServerSkinSource serverSkinSource;
+    private final Map<SkinTier, LongAdder> skinTierCounts = new EnumMap<>(SkinTier.class);
+
+    // Background refreshes for stale cache hits; kept as fields so a hit does not allocate a lambda.
+    private final Function<UUID, CompletableFuture<String>> nameRefresher = uniqueIdentifier -> loadName(uniqueIdentifier, true);
+    private final Function<String, CompletableFuture<UUID>> uniqueIdentifierRefresher = normalizedName -> loadUUID(normalizedName, normalizedName, true);
+    private final Function<UUID, CompletableFuture<SkinDto>> skinRefresher = this::revalidateSkin;
 
     public MojangServiceImpl(PluginType plugin, MojangServiceDemocracyCache mojangServiceDemocracyCache) {
+        this(plugin, mojangServiceDemocracyCache, new MojangServiceConfigurationImpl());
+    }
+
+    private MojangServiceImpl(PluginType plugin, MojangServiceDemocracyCache mojangServiceDemocracyCache, MojangServiceConfiguration configuration) {
+        this(plugin, mojangServiceDemocracyCache, new MojangRequestCoalescer(), new MojangRateLimiter(configuration),
+                HttpClient.newBuilder().connectTimeout(REQUEST_TIMEOUT).build(), MojangEndpoints.DEFAULT, configuration);
+    }
+
+    public MojangServiceImpl(PluginType plugin,
+                             MojangServiceDemocracyCache mojangServiceDemocracyCache,
+                             MojangRequestCoalescer requestCoalescer,
+                             MojangRateLimiter rateLimiter,
+                             HttpClient httpClient,
+                             MojangEndpoints endpoints,
+                             MojangServiceConfiguration configuration) {
+        this(plugin, mojangServiceDemocracyCache, requestCoalescer, rateLimiter, httpClient, endpoints, configuration,
+                BukkitServerSkinSource.INSTANCE);
+    }
+
+    public MojangServiceImpl(PluginType plugin,
+                             MojangServiceDemocracyCache mojangServiceDemocracyCache,
+                             MojangRequestCoalescer requestCoalescer,
+                             MojangRateLimiter rateLimiter,
+                             HttpClient httpClient,
+                             MojangEndpoints endpoints,
+                             MojangServiceConfiguration configuration,
+                             MojangServerSkinSource serverSkinSource) {
         super(mojangServiceDemocracyCache.getExecutorService());
         this.plugin = plugin;
         this.mojangServiceDemocracyCache = mojangServiceDemocracyCache;
+        this.requestCoalescer = requestCoalescer;
+        this.rateLimiter = rateLimiter;
+        this.httpClient = httpClient;
+        this.endpoints = endpoints;
+        this.uuidBatcher = configuration.isUuidBatchingEnabled()
+                ? new MojangUuidBatcher(
+                        this::fetchUUIDsLimited,
+                        configuration.getUuidBatchWindowMillis(),
+                        configuration.getUuidBatchMaxSize())
+                : null;
+        this.negativeCachingEnabled = configuration.getNegativeCacheTtlSeconds() > 0;
+        this.serverSkinSource = serverSkinSource;
+        for (SkinTier tier : SkinTier.values()) {
+            skinTierCounts.put(tier, new LongAdder());
+        }
     }
 
     @Override
     public CompletableFuture<@Nullable String> getName(final UUID uniqueIdentifier) {
-        if (uniqueIdentifier == null) return CompletableFuture.completedFuture(null);
+        if (uniqueIdentifier == null) return CachedCompletedFuture.ofNull();
 
-
-        // check cache
-        if (mojangServiceDemocracyCache.getUniqueIdentifierToNameMap().containsKey(uniqueIdentifier)) {
-            return CompletableFuture.completedFuture(mojangServiceDemocracyCache.getUniqueIdentifierToNameMap().get(uniqueIdentifier));
+        // check cache; a stale hit is returned as is and refreshed in the background
+        CompletableFuture<String> cached = cachedFuture(mojangServiceDemocracyCache.getUniqueIdentifierToNameMap(), uniqueIdentifier, nameRefresher);
+        if (cached != null) return cached;
+        if (mojangServiceDemocracyCache.getUnknownUniqueIdentifiers().contains(uniqueIdentifier)) {
+            return CachedCompletedFuture.ofNull();
         }
 
-        // Fetch from Mojang API
-        return supplyAsync(() -> {
-            try {
-                String url = UUID_TO_NAME_URL + uniqueIdentifier.toString().replace("-", "");
-                JsonObject response = getJsonObject(url);
-                
-                if (response != null && response.has("name")) {
-                    String name = response.get("name").getAsString();
-                    // update cache
-                    mojangServiceDemocracyCache.getUniqueIdentifierToNameMap().put(uniqueIdentifier, name);
-                    mojangServiceDemocracyCache.getNameToUniqueIdentifierMap().put(name.toLowerCase(), uniqueIdentifier);
-                    return name;
-                }
-            } catch (Exception e) {
-                plugin.getLogger().log(Level.SEVERE, "Failed to retrieve name for UUID " + uniqueIdentifier, e);
+        return loadName(uniqueIdentifier, false);
+    }
+
+    /**
+     * Fetches from Mojang API, sharing the request with concurrent lookups for the same UUID.
+     *
+     * @param revalidate whether to fetch even if the cache holds a (stale) name.
+     */
+    private CompletableFuture<@Nullable String> loadName(UUID uniqueIdentifier, boolean revalidate) {
+        return requestCoalescer.name(uniqueIdentifier, () -> logFailures(
+                rateLimiter.submit(MojangRateLimiter.Route.SESSION_SERVER, () -> fetchName(uniqueIdentifier, revalidate)),
+                "name for UUID " + uniqueIdentifier));
+    }
+
+    private CompletableFuture<@Nullable String> fetchName(UUID uniqueIdentifier, boolean revalidate) {
+        // another lookup may have filled the cache while we were waiting for a slot
+        String cached = revalidate ? null : mojangServiceDemocracyCache.getUniqueIdentifierToNameMap().get(uniqueIdentifier);
+        if (cached != null) return CompletableFuture.completedFuture(cached);
+
+        String url = endpoints.uuidToNameUrl() + uniqueIdentifier.toString().replace("-", "");
+        return getJsonObject(url).thenApply(response -> {
+            if (response == null) {
+                rememberUnknown(uniqueIdentifier);
+                return null;
             }
-            return null;
+            if (!response.has("name")) return null;
+
+            String name = response.get("name").getAsString();
+            // update cache
+            mojangServiceDemocracyCache.getUniqueIdentifierToNameMap().put(uniqueIdentifier, name);
+            mojangServiceDemocracyCache.getNameToUniqueIdentifierMap().put(MojangNameKeys.normalize(name), uniqueIdentifier);
+            return name;
         });
     }
 
     @Override
     public CompletableFuture<@Nullable UUID> getUUID(final String name) {
-        if (name == null) return CompletableFuture.completedFuture(null);
+        if (name == null) return CachedCompletedFuture.ofNull();
 
-        // check cache
-        if (mojangServiceDemocracyCache.getNameToUniqueIdentifierMap().containsKey(name.toLowerCase())) {
-            return CompletableFuture.completedFuture(mojangServiceDemocracyCache.getNameToUniqueIdentifierMap().get(name.toLowerCase()));
+        // check cache; the key lookups don't allocate, even for mixed-case names
+        CompletableFuture<UUID> cached = cachedFuture(mojangServiceDemocracyCache.getNameToUniqueIdentifierMap(), MojangNameKeys.lookupKey(name), uniqueIdentifierRefresher);
+        if (cached != null) return cached;
+        if (mojangServiceDemocracyCache.getUnknownNames().contains(MojangNameKeys.lookupKey(name))) {
+            return CachedCompletedFuture.ofNull();
         }
 
-        return supplyAsync(() -> {
-            try {
-                String url = NAME_TO_UUID_URL + name;
-                JsonObject response = getJsonObject(url);
-                
-                if (response != null && response.has("id")) {
-                    String rawUuid = response.get("id").getAsString();
-                    UUID uuid = fromRawUUID(rawUuid);
-                    
-                    // update cache
-                    mojangServiceDemocracyCache.getNameToUniqueIdentifierMap().put(name.toLowerCase(), uuid);
-                    mojangServiceDemocracyCache.getUniqueIdentifierToNameMap().put(uuid, response.get("name").getAsString());
-                    return uuid;
-                }
-            } catch (Exception e) {
-                plugin.getLogger().log(Level.SEVERE, "Failed to retrieve name for UUID " + name, e);
+        return loadUUID(name, MojangNameKeys.normalize(name), false);
+    }
+
+    /**
+     * @param revalidate whether to fetch even if the cache holds a (stale) UUID.
+     */
+    private CompletableFuture<@Nullable UUID> loadUUID(String name, String normalizedName, boolean revalidate) {
+        return requestCoalescer.uniqueIdentifier(normalizedName, () -> uuidBatcher != null
+                ? uuidBatcher.submit(normalizedName)
+                : logFailures(
+                        rateLimiter.submit(MojangRateLimiter.Route.PROFILE_API, () -> fetchUUID(name, normalizedName, revalidate)),
+                        "UUID for name " + name));
+    }
+
+    private CompletableFuture<@Nullable UUID> fetchUUID(String name, String normalizedName, boolean revalidate) {
+        UUID cached = revalidate ? null : mojangServiceDemocracyCache.getNameToUniqueIdentifierMap().get(normalizedName);
+        if (cached != null) return CompletableFuture.completedFuture(cached);
+
+        String url = endpoints.nameToUuidUrl() + URLEncoder.encode(name, StandardCharsets.UTF_8);
+        return getJsonObject(url).thenApply(response -> {
+            if (response == null) {
+                rememberUnknown(normalizedName);
+                return null;
             }
-            return null;
+            if (!response.has("id")) return null;
+
+            UUID uuid = fromRawUUID(response.get("id").getAsString());
+            // update cache
+            mojangServiceDemocracyCache.getNameToUniqueIdentifierMap().put(normalizedName, uuid);
+            mojangServiceDemocracyCache.getUniqueIdentifierToNameMap().put(uuid, response.get("name").getAsString());
+            return uuid;
         });
     }
 
     @Override
     public CompletableFuture<@Nullable SkinDto> getSkin(final UUID uniqueIdentifier) {
-        if (uniqueIdentifier == null) return CompletableFuture.completedFuture(null);
+        if (uniqueIdentifier == null) return CachedCompletedFuture.ofNull();
+
+        // Fresh hits never touch the server; stale ones are revalidated in the background, from the server first.
+        CompletableFuture<SkinDto> cached = cachedFuture(mojangServiceDemocracyCache.getUniqueIdentifierToSkinMap(), uniqueIdentifier, skinRefresher);
+        if (cached != null) {
+            skinTierCounts.get(SkinTier.DEMOCRACY_CACHE).increment();
+            return cached;
+        }
+
+        // skins the server already holds are current and signed, so they take precedence over the network
+        SkinTier tier = SkinTier.ONLINE_PLAYER;
+        SkinDto serverSkin = serverSkinSource.onlinePlayerSkin(uniqueIdentifier);
+        if (serverSkin == null) {
+            tier = SkinTier.SERVER_PROFILE_CACHE;
+            serverSkin = serverSkinSource.cachedProfileSkin(uniqueIdentifier);
+        }
+        if (serverSkin != null) {
+            rememberSkin(uniqueIdentifier, serverSkin);
+            skinTierCounts.get(tier).increment();
+            return CompletableFuture.completedFuture(serverSkin);
+        }
+        if (mojangServiceDemocracyCache.getUnknownUniqueIdentifiers().contains(uniqueIdentifier)) {
+            skinTierCounts.get(SkinTier.DEMOCRACY_CACHE).increment();
+            return CachedCompletedFuture.ofNull();
+        }
 
-        // check cache
-        if (mojangServiceDemocracyCache.getUniqueIdentifierToSkinMap().containsKey(uniqueIdentifier)) {
-            return CompletableFuture.completedFuture(mojangServiceDemocracyCache.getUniqueIdentifierToSkinMap().get(uniqueIdentifier));
+        skinTierCounts.get(SkinTier.NETWORK).increment();
+        return loadSkin(uniqueIdentifier, false);
+    }
+
+    /**
+     * Background refresh of a stale skin: the server's copy if it holds one, otherwise a sessionserver request.
+     */
+    private CompletableFuture<@Nullable SkinDto> revalidateSkin(UUID uniqueIdentifier) {
+        SkinDto serverSkin = serverSkinSource.onlinePlayerSkin(uniqueIdentifier);
+        if (serverSkin == null) serverSkin = serverSkinSource.cachedProfileSkin(uniqueIdentifier);
+        if (serverSkin == null) return loadSkin(uniqueIdentifier, true);
+
+        rememberSkin(uniqueIdentifier, serverSkin);
+        return CompletableFuture.completedFuture(serverSkin);
+    }
+
+    /**
+     * Stores a skin found on the server. If the cache already holds the same textures, the entry is only
+     * renewed, so it is neither revalidated again right away nor appended to the journal.
+     */
+    private void rememberSkin(UUID uniqueIdentifier, SkinDto skin) {
+        Map<UUID, SkinDto> skins = mojangServiceDemocracyCache.getUniqueIdentifierToSkinMap();
+        SkinDto cached = skins.get(uniqueIdentifier);
+        // compact skins compare by interned payload, without rebuilding their strings
+        if (skin.equals(cached)) {
+            if (skins instanceof BoundedExpiringMap<UUID, SkinDto> bounded) {
+                bounded.restore(uniqueIdentifier, cached, System.currentTimeMillis());
+            }
+            return;
         }
+        skins.put(uniqueIdentifier, skin);
+        mojangServiceDemocracyCache.getUnknownUniqueIdentifiers().remove(uniqueIdentifier);
+    }
 
-        return supplyAsync(() -> {
-            try {
-                // ?unsigned=false to get signed textures
-                String url = UUID_TO_NAME_URL + uniqueIdentifier.toString().replace("-", "") + "?unsigned=false";
-                JsonObject response = getJsonObject(url);
-
-                if (response != null && response.has("properties")) {
-                    JsonArray properties = response.getAsJsonArray("properties");
-
-                    for (JsonElement element : properties) {
-                        JsonObject prop = element.getAsJsonObject();
-                        if (prop.has("name") && prop.get("name").getAsString().equals("textures")) {
-                            String value = prop.get("value").getAsString();
-                            String signature = prop.has("signature") ? prop.get("signature").getAsString() : null;
-                            
-                            SkinDto skin = SkinDto.of(value, signature);
-                            mojangServiceDemocracyCache.getUniqueIdentifierToSkinMap().put(uniqueIdentifier, skin);
-                            return skin;
-                        }
-                    }
+    /**
+     * Number of {@link #getSkin} requests answered by the given tier.
+     */
+    public long skinResolutionCount(@NotNull SkinTier tier) {
+        return skinTierCounts.get(tier).sum();
+    }
+
+    /**
+     * @param revalidate whether to fetch even if the cache holds a (stale) skin.
+     */
+    private CompletableFuture<@Nullable SkinDto> loadSkin(UUID uniqueIdentifier, boolean revalidate) {
+        return requestCoalescer.skin(uniqueIdentifier, () -> logFailures(
+                rateLimiter.submit(MojangRateLimiter.Route.SESSION_SERVER, () -> fetchSkin(uniqueIdentifier, revalidate)),
+                "skin for UUID " + uniqueIdentifier));
+    }
+
+    private CompletableFuture<@Nullable SkinDto> fetchSkin(UUID uniqueIdentifier, boolean revalidate) {
+        SkinDto cached = revalidate ? null : mojangServiceDemocracyCache.getUniqueIdentifierToSkinMap().get(uniqueIdentifier);
+        if (cached != null) return CompletableFuture.completedFuture(cached);
+
+        // ?unsigned=false to get signed textures
+        String url = endpoints.uuidToNameUrl() + uniqueIdentifier.toString().replace("-", "") + "?unsigned=false";
+        return getJsonObject(url).thenApply(response -> {
+            if (response == null) {
+                rememberUnknown(uniqueIdentifier);
+                return null;
+            }
+            if (!response.has("properties")) return null;
+
+            for (JsonElement element : response.getAsJsonArray("properties")) {
+                JsonObject prop = element.getAsJsonObject();
+                if (prop.has("name") && prop.get("name").getAsString().equals("textures")) {
+                    String value = prop.get("value").getAsString();
+                    String signature = prop.has("signature") ? prop.get("signature").getAsString() : null;
+
+                    SkinDto skin = SkinDto.of(value, signature);
+                    mojangServiceDemocracyCache.getUniqueIdentifierToSkinMap().put(uniqueIdentifier, skin);
+                    return skin;
                 }
-            } catch (Exception e) {
-                plugin.getLogger().log(Level.SEVERE, "Failed to retrieve skin for UUID " + uniqueIdentifier, e);
             }
             return null;
         });
     }
 
+    @Override
+    public @Nullable String getCachedName(final UUID uniqueIdentifier) {
+        if (uniqueIdentifier == null) return null;
+        return mojangServiceDemocracyCache.getUniqueIdentifierToNameMap().get(uniqueIdentifier);
+    }
+
+    @Override
+    public @Nullable UUID getCachedUUID(final String name) {
+        if (name == null) return null;
+        return mojangServiceDemocracyCache.getNameToUniqueIdentifierMap().get(MojangNameKeys.lookupKey(name));
+    }
+
+    @Override
+    public @Nullable SkinDto getCachedSkin(final UUID uniqueIdentifier) {
+        if (uniqueIdentifier == null) return null;
+        return mojangServiceDemocracyCache.getUniqueIdentifierToSkinMap().get(uniqueIdentifier);
+    }
+
+    @Override
+    public CompletableFuture<Map<String, UUID>> getUUIDs(final Collection<String> names) {
+        if (names == null || names.isEmpty()) return CompletableFuture.completedFuture(Map.of());
+
+        Map<String, UUID> resolved = new ConcurrentHashMap<>();
+        // lower-cased name -> every spelling the caller asked for
+        Map<String, List<String>> pending = new LinkedHashMap<>();
+
+        for (String name : names) {
+            if (name == null) continue;
+            String normalizedName = MojangNameKeys.normalize(name);
+
+            // check cache
+            UUID cached = mojangServiceDemocracyCache.getNameToUniqueIdentifierMap().get(normalizedName);
+            if (cached != null) {
+                resolved.put(name, cached);
+                continue;
+            }
+            if (mojangServiceDemocracyCache.getUnknownNames().contains(normalizedName)) continue;
+            pending.computeIfAbsent(normalizedName, key -> new ArrayList<>(1)).add(name);
+        }
+
+        if (pending.isEmpty()) return CompletableFuture.completedFuture(Map.copyOf(resolved));
+
+        List<String> remaining = List.copyOf(pending.keySet());
+        List<CompletableFuture<Void>> chunks = new ArrayList<>((remaining.size() + BULK_CHUNK_SIZE - 1) / BULK_CHUNK_SIZE);
+
+        for (int from = 0; from < remaining.size(); from += BULK_CHUNK_SIZE) {
+            List<String> chunk = remaining.subList(from, Math.min(from + BULK_CHUNK_SIZE, remaining.size()));
+            chunks.add(fetchUUIDsLimited(chunk).thenAccept(found -> found.forEach((normalizedName, uuid) -> {
+                List<String> requested = pending.get(normalizedName);
+                if (requested == null) return;
+                for (String name : requested) {
+                    resolved.put(name, uuid);
+                }
+            })));
+        }
+
+        return CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> Map.copyOf(resolved));
+    }
+
+    /**
+     * Bulk lookup through the rate limiter. Failures other than rate limiting are logged and resolve to an empty map.
+     */
+    private CompletableFuture<Map<String, UUID>> fetchUUIDsLimited(List<String> normalizedNames) {
+        return logFailures(
+                rateLimiter.submit(MojangRateLimiter.Route.PROFILE_API, () -> fetchUUIDs(normalizedNames)),
+                "UUIDs for names " + normalizedNames
+        ).thenApply(found -> found == null ? Map.of() : found);
+    }
+
+    /**
+     * Resolves up to {@link #BULK_CHUNK_SIZE} names with a single bulk request and updates the cache.
+     *
+     * @return lower-cased name to UUID for every name Mojang knows; unknown names are omitted and remembered as unknown.
+     */
+    private CompletableFuture<Map<String, UUID>> fetchUUIDs(List<String> normalizedNames) {
+        JsonArray body = new JsonArray(normalizedNames.size());
+        normalizedNames.forEach(body::add);
+
+        return postJsonArray(endpoints.bulkNameToUuidUrl(), body).thenApply(response -> {
+            Map<String, UUID> found = new HashMap<>(response.size());
+            for (JsonElement element : response) {
+                JsonObject profile = element.getAsJsonObject();
+                if (!profile.has("id") || !profile.has("name")) continue;
+
+                String name = profile.get("name").getAsString();
+                UUID uuid = fromRawUUID(profile.get("id").getAsString());
+
+                // update cache
+                mojangServiceDemocracyCache.getNameToUniqueIdentifierMap().put(MojangNameKeys.normalize(name), uuid);
+                mojangServiceDemocracyCache.getUniqueIdentifierToNameMap().put(uuid, name);
+                found.put(MojangNameKeys.normalize(name), uuid);
+            }
+            // the bulk endpoint silently omits names that don't exist
+            for (String normalizedName : normalizedNames) {
+                if (!found.containsKey(normalizedName)) rememberUnknown(normalizedName);
+            }
+            return found;
+        });
+    }
+
     // util
 
+    private void rememberUnknown(String normalizedName) {
+        if (negativeCachingEnabled) mojangServiceDemocracyCache.getUnknownNames().add(normalizedName);
+    }
+
+    private void rememberUnknown(UUID uniqueIdentifier) {
+        if (negativeCachingEnabled) mojangServiceDemocracyCache.getUnknownUniqueIdentifiers().add(uniqueIdentifier);
+    }
+
+    /**
+     * Logs a failed lookup and resolves it to {@code null}, except for rate limiting, which reaches the caller
+     * as {@link MojangRateLimitedException} so it is not mistaken for an unknown player.
+     */
+    private <T> CompletableFuture<@Nullable T> logFailures(CompletableFuture<T> lookup, String description) {
+        return lookup.exceptionally(throwable -> {
+            Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+            if (cause instanceof MojangRateLimitedException rateLimited) throw rateLimited;
+
+            plugin.getLogger().log(Level.SEVERE, "Failed to retrieve " + description, cause);
+            return null;
+        });
+    }
+
+    /**
+     * Cache hit as a completed future. Bounded maps hand out one shared future per entry instead of allocating,
+     * and start {@code refresher} for entries past their refresh interval.
+     */
+    private static <KeyType, ValueType> @Nullable CompletableFuture<ValueType> cachedFuture(Map<KeyType, ValueType> map, Object key,
+                                                                                        @Nullable Function<? super KeyType, ? extends CompletableFuture<?>> refresher) {
+        if (map instanceof BoundedExpiringMap<KeyType, ValueType> bounded) return bounded.getCompleted(key, refresher);
+        ValueType value = map.get(key);
+        return value == null ? null : CompletableFuture.completedFuture(value);
+    }
+
     private UUID fromRawUUID(String rawUuid) {
         return UUID.fromString(rawUuid.replaceFirst(
                 "(\\p{XDigit}{8})(\\p{XDigit}{4})(\\p{XDigit}{4})(\\p{XDigit}{4})(\\p{XDigit}+)",
@@ -144,31 +469,72 @@ public class MojangServiceImpl<PluginType extends Plugin> extends AsyncDemocracy
         ));
     }
 
-    private JsonObject getJsonObject(String urlString) throws IOException {
-        HttpURLConnection connection = createConnection(urlString);
-        int status = connection.getResponseCode();
-        
-        // basic rate limit handling
-        if (status == 429) {
-            System.err.println("[DemocracyLib] Mojang API Rate Limit hit!");
-            return null;
-        }
-        if (status != HttpURLConnection.HTTP_OK) return null;
+    /**
+     * @return the parsed body, or {@code null} if Mojang has no profile for the request (204/404).
+     */
+    private CompletableFuture<@Nullable JsonObject> getJsonObject(String urlString) {
+        HttpRequest request = newRequest(urlString).GET().build();
+        return httpClient.sendAsync(request, jsonBodyHandler()).thenApply(response -> {
+            // Mojang answers unknown profiles with 204 (or 404); only these count as "does not exist".
+            if (response.statusCode() == HTTP_NO_CONTENT || response.statusCode() == HTTP_NOT_FOUND) return null;
+            checkStatus(response, urlString);
+            return response.body().getAsJsonObject();
+        });
+    }
 
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(connection.getInputStream()))) {
-            return JsonParser.parseReader(reader).getAsJsonObject();
+    private CompletableFuture<JsonArray> postJsonArray(String urlString, JsonArray body) {
+        HttpRequest request = newRequest(urlString)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body.toString(), StandardCharsets.UTF_8))
+                .build();
+        return httpClient.sendAsync(request, jsonBodyHandler()).thenApply(response -> {
+            checkStatus(response, urlString);
+            return response.body().getAsJsonArray();
+        });
+    }
+
+    private static HttpRequest.Builder newRequest(String urlString) {
+        return HttpRequest.newBuilder(URI.create(urlString))
+                .timeout(REQUEST_TIMEOUT)
+                .header("User-Agent", "DemocracyLib-MojangService/1.0");
+    }
+
+    /**
+     * Buffers the body without blocking and parses it with Gson only for 200 responses; other bodies are discarded.
+     */
+    private static HttpResponse.BodyHandler<JsonElement> jsonBodyHandler() {
+        return responseInfo -> responseInfo.statusCode() == HTTP_OK
+                ? HttpResponse.BodySubscribers.mapping(HttpResponse.BodySubscribers.ofByteArray(), bytes ->
+                        JsonParser.parseReader(new InputStreamReader(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8)))
+                : HttpResponse.BodySubscribers.replacing(JsonNull.INSTANCE);
+    }
+
+    /**
+     * Fails the request for anything but 200 so rate limits and outages are never mistaken for unknown players.
+     */
+    private static void checkStatus(HttpResponse<?> response, String urlString) {
+        if (response.statusCode() == 429) {
+            // handed to the rate limiter, which backs off and retries
+            throw new MojangRateLimitedException("[DemocracyLib] Mojang API rate limit hit for " + urlString,
+                    retryAfterMillis(response.headers().firstValue("Retry-After").orElse(null)));
+        }
+        if (response.statusCode() != HTTP_OK) {
+            throw new IllegalStateException("[DemocracyLib] Unexpected HTTP " + response.statusCode() + " from " + urlString);
         }
     }
 
-    private HttpURLConnection createConnection(String urlString) throws IOException {
-        URL url = URI.create(urlString).toURL();
-        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-        connection.setConnectTimeout(TIMEOUT_MS);
-        connection.setReadTimeout(TIMEOUT_MS);
-        connection.setRequestProperty("User-Agent", "DemocracyLib-MojangService/1.0");
-        return connection;
+    /**
+     * Parses a {@code Retry-After} header given in seconds; HTTP-date values are ignored.
+     */
+    private static long retryAfterMillis(@Nullable String header) {
+        if (header == null) return -1;
+        try {
+            return TimeUnit.SECONDS.toMillis(Long.parseLong(header.trim()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
     }
-    
+
     // Shut down executor
     public void shutdown() {
         executor.shutdown();
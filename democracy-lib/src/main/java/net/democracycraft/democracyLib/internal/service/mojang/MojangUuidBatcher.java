@@ -0,0 +1,106 @@
+package net.democracycraft.democracyLib.internal.service.mojang;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Collects single-name UUID lookups and resolves them through one bulk request.
+ * <p>
+ * A batch is flushed when it reaches {@code maxBatchSize} names or when {@code windowMillis} have passed
+ * since its first name was queued, whichever happens first.
+ */
+final class MojangUuidBatcher {
+
+    private final Function<List<String>, CompletableFuture<Map<String, UUID>>> bulkLookup;
+    private final Executor windowTimer;
+    private final int maxBatchSize;
+
+    private final Object lock = new Object();
+    private Map<String, CompletableFuture<UUID>> pending = new LinkedHashMap<>();
+    // Bumped on every flush so a timer armed for an earlier batch never cuts a newer batch's window short.
+    private long batchGeneration;
+
+    /**
+     * @param bulkLookup resolves lower-cased names; the result maps lower-cased names to UUIDs and omits unknown names.
+     */
+    MojangUuidBatcher(@NotNull Function<List<String>, CompletableFuture<Map<String, UUID>>> bulkLookup,
+                      long windowMillis,
+                      int maxBatchSize) {
+        this.bulkLookup = bulkLookup;
+        // Flushing only starts an async request, so the timer runs it directly instead of occupying a pool slot
+        // that a saturated pool might refuse, which would strand the batch.
+        this.windowTimer = CompletableFuture.delayedExecutor(windowMillis, TimeUnit.MILLISECONDS, Runnable::run);
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    @NotNull CompletableFuture<UUID> submit(@NotNull String normalizedName) {
+        CompletableFuture<UUID> future;
+        Map<String, CompletableFuture<UUID>> fullBatch = null;
+        long armTimerFor = -1;
+
+        synchronized (lock) {
+            future = pending.get(normalizedName);
+            if (future != null) return future;
+
+            future = new CompletableFuture<>();
+            if (pending.isEmpty()) {
+                armTimerFor = batchGeneration;
+            }
+            pending.put(normalizedName, future);
+
+            if (pending.size() >= maxBatchSize) {
+                fullBatch = takePending();
+                armTimerFor = -1;
+            }
+        }
+
+        if (fullBatch != null) {
+            flush(fullBatch);
+        } else if (armTimerFor >= 0) {
+            long generation = armTimerFor;
+            windowTimer.execute(() -> flushIfStill(generation));
+        }
+        return future;
+    }
+
+    private void flushIfStill(long generation) {
+        Map<String, CompletableFuture<UUID>> batch;
+        synchronized (lock) {
+            if (generation != batchGeneration || pending.isEmpty()) return;
+            batch = takePending();
+        }
+        flush(batch);
+    }
+
+    private Map<String, CompletableFuture<UUID>> takePending() {
+        Map<String, CompletableFuture<UUID>> batch = pending;
+        pending = new LinkedHashMap<>();
+        batchGeneration++;
+        return batch;
+    }
+
+    private void flush(Map<String, CompletableFuture<UUID>> batch) {
+        CompletableFuture<Map<String, UUID>> lookup;
+        try {
+            lookup = bulkLookup.apply(List.copyOf(batch.keySet()));
+        } catch (Throwable t) {
+            lookup = CompletableFuture.failedFuture(t);
+        }
+
+        lookup.whenComplete((found, throwable) -> batch.forEach((normalizedName, future) -> {
+            if (throwable != null) {
+                future.completeExceptionally(throwable);
+            } else {
+                future.complete(found == null ? null : found.get(normalizedName));
+            }
+        }));
+    }
+}
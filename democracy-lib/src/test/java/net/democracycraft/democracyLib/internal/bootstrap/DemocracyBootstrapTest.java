@@ -0,0 +1,51 @@
+package net.democracycraft.democracyLib.internal.bootstrap;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DemocracyBootstrapTest {
+
+    @AfterEach
+    void cleanup() {
+        System.getProperties().remove(DemocracyLibJvmAnchor.ANCHOR_KEY_V1);
+    }
+
+    @Test
+    void epochCounterIsCreatedOnceAndAdvanced() {
+        Map<String, Object> anchor = DemocracyLibJvmAnchor.anchorMap();
+        AtomicLong counter = DemocracyBootstrap.epochCounter(anchor);
+
+        DemocracyBootstrap.advanceEpoch(anchor);
+
+        assertSame(counter, DemocracyBootstrap.epochCounter(anchor));
+        assertEquals(1, counter.get());
+    }
+
+    @Test
+    void snapshotGoesStaleWhenEpochAdvancesOrLeaderIsReplaced() {
+        Map<String, Object> anchor = DemocracyLibJvmAnchor.anchorMap();
+        Object leader = new Object();
+        anchor.put(DemocracyBootstrap.KEY_LEADER, leader);
+        AtomicLong counter = DemocracyBootstrap.epochCounter(anchor);
+
+        DemocracyBootstrap.LeaderSnapshot snapshot =
+                new DemocracyBootstrap.LeaderSnapshot(leader, counter.get(), new DemocracyBridgeInvoker(leader), counter, anchor);
+        assertTrue(snapshot.isCurrent());
+
+        DemocracyBootstrap.advanceEpoch(anchor);
+        assertFalse(snapshot.isCurrent());
+
+        DemocracyBootstrap.LeaderSnapshot next =
+                new DemocracyBootstrap.LeaderSnapshot(leader, counter.get(), snapshot.invoker(), counter, anchor);
+        assertTrue(next.isCurrent());
+
+        // A leader published without advancing the epoch is still noticed.
+        anchor.put(DemocracyBootstrap.KEY_LEADER, new Object());
+        assertFalse(next.isCurrent());
+    }
+}
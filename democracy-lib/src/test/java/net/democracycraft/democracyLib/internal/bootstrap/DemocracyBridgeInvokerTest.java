@@ -0,0 +1,63 @@
+package net.democracycraft.democracyLib.internal.bootstrap;
+
+import net.democracycraft.democracyLib.api.bootstrap.GeneratedBridgeIds;
+import org.bukkit.plugin.Plugin;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DemocracyBridgeInvokerTest {
+
+    /**
+     * Stands in for the leader's service manager: same methods, unrelated type.
+     */
+    public static final class LeaderServiceManager {
+
+        int calls;
+
+        public List<Object> getAllServices() {
+            calls++;
+            return List.of("service");
+        }
+
+        public Object getService(String name) {
+            calls++;
+            if (name.isEmpty()) throw new IllegalArgumentException("empty name");
+            return name.toUpperCase();
+        }
+
+        public boolean hasRegisteredService(Plugin plugin, Class<?> serviceType) {
+            calls++;
+            return plugin == null && serviceType == String.class;
+        }
+    }
+
+    @Test
+    void callsReachTheLeaderWithArgumentsAndBoxedResults() throws Throwable {
+        LeaderServiceManager leader = new LeaderServiceManager();
+        DemocracyBridgeInvoker invoker = new DemocracyBridgeInvoker(leader);
+
+        assertEquals(List.of("service"), invoker.invoke(GeneratedBridgeIds.DemocracyServiceManager.Index.getAllServices, DemocracyBridgeInvoker.NO_ARGS));
+        assertEquals("MOJANG", invoker.invoke(GeneratedBridgeIds.DemocracyServiceManager.Index.getService__String, new Object[]{"mojang"}));
+        assertEquals(Boolean.TRUE, invoker.invoke(GeneratedBridgeIds.DemocracyServiceManager.Index.hasRegisteredService__Plugin__Class, new Object[]{null, String.class}));
+        assertEquals(3, leader.calls);
+    }
+
+    @Test
+    void leaderExceptionsAreNotWrapped() {
+        DemocracyBridgeInvoker invoker = new DemocracyBridgeInvoker(new LeaderServiceManager());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> invoker.invoke(GeneratedBridgeIds.DemocracyServiceManager.Index.getService__String, new Object[]{""}));
+    }
+
+    @Test
+    void missingLeaderMethodFailsOnFirstCall() {
+        DemocracyBridgeInvoker invoker = new DemocracyBridgeInvoker(new LeaderServiceManager());
+
+        assertThrows(IllegalStateException.class,
+                () -> invoker.invoke(GeneratedBridgeIds.DemocracyServiceManager.Index.getServicesByType__Class, new Object[]{String.class}));
+    }
+}
@@ -0,0 +1,141 @@
+package net.democracycraft.democracyLib.internal.bootstrap;
+
+import net.democracycraft.democracyLib.api.bootstrap.GeneratedBridgeValues;
+import net.democracycraft.democracyLib.api.data.SkinDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DemocracyBridgeValuesTest {
+
+    /**
+     * Stands in for a SkinDto loaded by the leader's classloader: same shape, unrelated type.
+     */
+    record LeaderSkin(String value, String signature) {
+    }
+
+    /**
+     * What the leader's generated codec publishes for its own skin type.
+     */
+    private static final UnaryOperator<Object> LEADER_ENCODER = DemocracyBridgeValuesTest::leaderEncode;
+
+    @AfterEach
+    void cleanup() {
+        System.getProperties().remove(DemocracyLibJvmAnchor.ANCHOR_KEY_V1);
+    }
+
+    @Test
+    void generatedCodecRoundTripsSkins() {
+        SkinDto skin = SkinDto.of("dGV4dHVyZXM=", null);
+
+        Object encoded = GeneratedBridgeValues.encode(skin);
+        assertEquals(Map.of(GeneratedBridgeValues.TYPE_KEY, "SkinDto", "value", "dGV4dHVyZXM="),
+                Map.copyOf(withoutNulls((Map<?, ?>) encoded)));
+
+        SkinDto decoded = (SkinDto) GeneratedBridgeValues.decode(encoded);
+        assertEquals("dGV4dHVyZXM=", decoded.value());
+        assertNull(decoded.signature());
+        assertTrue(GeneratedBridgeValues.IDS.contains("SkinDto"));
+    }
+
+    @Test
+    void nonValuesPassThroughTheCodec() {
+        List<String> names = List.of("Notch");
+        Map<String, String> plain = Map.of("value", "x");
+
+        assertSame(names, GeneratedBridgeValues.encode(names));
+        assertSame(names, GeneratedBridgeValues.decode(names));
+        assertSame(plain, GeneratedBridgeValues.decode(plain));
+    }
+
+    @Test
+    void sameClassloaderLeaderResultsAreNotCopied() {
+        DemocracyBridgeValues.publishEncoder(DemocracyLibJvmAnchor.anchorMap());
+        SkinDto skin = SkinDto.of("dGV4dHVyZXM=", "c2ln");
+
+        assertSame(skin, DemocracyBridgeValues.fromLeader(skin));
+        assertNull(DemocracyBridgeValues.fromLeader(null));
+    }
+
+    @Test
+    void foreignSkinIsDecodedIntoTheFollowersType() {
+        DemocracyLibJvmAnchor.anchorMap().put(DemocracyBridgeValues.KEY_VALUE_ENCODER, LEADER_ENCODER);
+
+        SkinDto skin = (SkinDto) DemocracyBridgeValues.fromLeader(new LeaderSkin("dGV4dHVyZXM=", null));
+
+        assertEquals("dGV4dHVyZXM=", skin.value());
+        assertNull(skin.signature());
+    }
+
+    @Test
+    void followerTypedSkinsFromAForeignLeaderPassThrough() {
+        DemocracyLibJvmAnchor.anchorMap().put(DemocracyBridgeValues.KEY_VALUE_ENCODER, LEADER_ENCODER);
+        SkinDto skin = SkinDto.of("dGV4dHVyZXM=", "c2ln");
+
+        assertSame(skin, DemocracyBridgeValues.fromLeader(skin));
+    }
+
+    @Test
+    void repeatedLeaderValuesAreConvertedOnce() {
+        AtomicInteger encodes = new AtomicInteger();
+        UnaryOperator<Object> countingEncoder = value -> {
+            encodes.incrementAndGet();
+            return leaderEncode(value);
+        };
+        DemocracyLibJvmAnchor.anchorMap().put(DemocracyBridgeValues.KEY_VALUE_ENCODER, countingEncoder);
+        LeaderSkin leaderSkin = new LeaderSkin("dGV4dHVyZXM=", "c2ln");
+
+        Object first = DemocracyBridgeValues.fromLeader(leaderSkin);
+        Object second = DemocracyBridgeValues.fromLeader(CompletableFuture.completedFuture(leaderSkin));
+
+        assertSame(first, ((CompletableFuture<?>) second).join());
+        assertEquals(1, encodes.get());
+    }
+
+    @Test
+    void futuresAndListsAreConverted() {
+        DemocracyLibJvmAnchor.anchorMap().put(DemocracyBridgeValues.KEY_VALUE_ENCODER, LEADER_ENCODER);
+
+        Object completed = DemocracyBridgeValues.fromLeader(CompletableFuture.completedFuture(new LeaderSkin("a", "c2ln")));
+        assertEquals("c2ln", ((SkinDto) ((CompletableFuture<?>) completed).join()).signature());
+
+        CompletableFuture<Object> pending = new CompletableFuture<>();
+        CompletableFuture<?> converted = (CompletableFuture<?>) DemocracyBridgeValues.fromLeader(pending);
+        pending.complete(new LeaderSkin("b", null));
+        assertEquals("b", ((SkinDto) converted.join()).value());
+
+        List<?> skins = (List<?>) DemocracyBridgeValues.fromLeader(List.of(new LeaderSkin("c", null)));
+        assertEquals("c", ((SkinDto) skins.get(0)).value());
+    }
+
+    @Test
+    void resultsAreUnchangedWithoutAPublishedEncoder() {
+        LeaderSkin skin = new LeaderSkin("a", null);
+
+        assertSame(skin, DemocracyBridgeValues.fromLeader(skin));
+    }
+
+    private static Object leaderEncode(Object value) {
+        if (value instanceof List<?> list) return list.stream().map(DemocracyBridgeValuesTest::leaderEncode).toList();
+        if (!(value instanceof LeaderSkin skin)) return value;
+        Map<String, Object> fields = new HashMap<>();
+        fields.put(GeneratedBridgeValues.TYPE_KEY, "SkinDto");
+        fields.put("value", skin.value());
+        fields.put("signature", skin.signature());
+        return fields;
+    }
+
+    private static Map<Object, Object> withoutNulls(Map<?, ?> map) {
+        Map<Object, Object> copy = new HashMap<>(map);
+        copy.values().removeIf(java.util.Objects::isNull);
+        return copy;
+    }
+}
@@ -0,0 +1,57 @@
+package net.democracycraft.democracyLib.internal.bootstrap;
+
+import net.democracycraft.democracyLib.internal.runtime.DemocracyLibRuntime;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DemocracyLeaderHandoverTest {
+
+    private static final UUID PLAYER_ID = UUID.fromString("069a79f4-44e9-4726-a5be-fca90e38aaf5");
+
+    private final DemocracyLibRuntime outgoing = new DemocracyLibRuntime();
+    private final DemocracyLibRuntime next = new DemocracyLibRuntime();
+
+    @AfterEach
+    void tearDown() {
+        outgoing.shutdown();
+        next.shutdown();
+        System.getProperties().remove(DemocracyLibJvmAnchor.ANCHOR_KEY_V1);
+    }
+
+    @Test
+    void nextLeaderAdoptsTheCache() {
+        Map<String, Object> anchor = DemocracyLibJvmAnchor.anchorMap();
+        outgoing.getMojangCache().getUniqueIdentifierToNameMap().put(PLAYER_ID, "Notch");
+
+        DemocracyBootstrap.advanceEpoch(anchor);
+        DemocracyLeaderHandover.export(anchor, outgoing);
+
+        assertEquals(1, DemocracyLeaderHandover.adopt(anchor, next));
+        assertNull(anchor.get(DemocracyLeaderHandover.KEY_HANDOVER));
+        assertEquals("Notch", next.getMojangCache().getUniqueIdentifierToNameMap().get(PLAYER_ID));
+    }
+
+    @Test
+    void handoverFromAnEarlierEpochIsDropped() {
+        Map<String, Object> anchor = DemocracyLibJvmAnchor.anchorMap();
+        outgoing.getMojangCache().getUniqueIdentifierToNameMap().put(PLAYER_ID, "Notch");
+        DemocracyLeaderHandover.export(anchor, outgoing);
+
+        // Another leader came and went without adopting it.
+        DemocracyBootstrap.advanceEpoch(anchor);
+
+        assertEquals(0, DemocracyLeaderHandover.adopt(anchor, next));
+        assertNull(anchor.get(DemocracyLeaderHandover.KEY_HANDOVER));
+        assertNull(next.getMojangCache().getUniqueIdentifierToNameMap().get(PLAYER_ID));
+    }
+
+    @Test
+    void adoptingWithoutAHandoverDoesNothing() {
+        assertEquals(0, DemocracyLeaderHandover.adopt(DemocracyLibJvmAnchor.anchorMap(), next));
+    }
+}
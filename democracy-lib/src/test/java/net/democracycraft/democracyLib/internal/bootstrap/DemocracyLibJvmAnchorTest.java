@@ -37,5 +37,16 @@ class DemocracyLibJvmAnchorTest {
         assertNotSame(foreign, anchor);
         assertNotNull(anchor.get(GeneratedBridgeContract.AnchorKeys.LOCK));
     }
-}
 
+    @Test
+    void anchorMap_isReusedUntilReplaced() {
+        Map<String, Object> anchor = DemocracyLibJvmAnchor.anchorMap();
+        assertSame(anchor, DemocracyLibJvmAnchor.anchorMap());
+
+        System.getProperties().remove(DemocracyLibJvmAnchor.ANCHOR_KEY_V1);
+
+        Map<String, Object> recreated = DemocracyLibJvmAnchor.anchorMap();
+        assertNotSame(anchor, recreated);
+        assertSame(recreated, System.getProperties().get(DemocracyLibJvmAnchor.ANCHOR_KEY_V1));
+    }
+}
@@ -1,6 +1,7 @@
 package net.democracycraft.democracyLib.internal.bootstrap;
 
 import net.democracycraft.democracyLib.api.bootstrap.GeneratedBridgeContract;
+import net.democracycraft.democracyLib.api.bootstrap.GeneratedBridgeIds;
 import org.junit.jupiter.api.Test;
 import java.util.Map;
 
@@ -24,4 +25,16 @@ class GeneratedBridgeContractIdsTest {
             assertNotNull(s, "Missing spec for generated method id: " + id);
         }
     }
+
+    @Test
+    void everyIndexMapsToTheSpecOfItsId() {
+        assertEquals(GeneratedBridgeContract.Methods.SPECS.size(), GeneratedBridgeContract.Methods.COUNT);
+
+        for (int index = 0; index < GeneratedBridgeContract.Methods.COUNT; index++) {
+            String id = GeneratedBridgeContract.Methods.id(index);
+            assertSame(GeneratedBridgeContract.Methods.spec(id), GeneratedBridgeContract.Methods.spec(index));
+        }
+        assertEquals(GeneratedBridgeIds.MojangService.getSkin__UUID,
+                GeneratedBridgeContract.Methods.id(GeneratedBridgeIds.MojangService.Index.getSkin__UUID));
+    }
 }
@@ -22,4 +22,11 @@ class GeneratedBridgeContractTest {
         assertNotNull(leaderKey);
         assertFalse(leaderKey.isBlank());
     }
+
+    @Test
+    void methodsAddedWithProtocolTwoAreMarked() {
+        assertEquals(2, GeneratedBridgeContract.Methods.spec("MOJANG_SERVICE#getUUIDs(java.util.Collection)").sinceProtocol());
+        assertEquals(2, GeneratedBridgeContract.Methods.spec("MOJANG_SERVICE#getCachedName(java.util.UUID)").sinceProtocol());
+        assertEquals(1, GeneratedBridgeContract.Methods.spec("MOJANG_SERVICE#getName(java.util.UUID)").sinceProtocol());
+    }
 }
@@ -0,0 +1,182 @@
+package net.democracycraft.democracyLib.internal.bootstrap.handler;
+
+import net.democracycraft.democracyLib.internal.bootstrap.DemocracyLibJvmAnchor;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GenericDemocracyBootstrapHandlerTest {
+
+    public interface Greeter {
+        String greet(String name, String greeting);
+
+        String greet(String name, int times);
+
+        boolean isEnabled();
+
+        void reset();
+
+        String farewell(String name);
+    }
+
+    /**
+     * Stands in for the leader's implementation: same methods, not a {@link Greeter}.
+     */
+    public static final class LeaderGreeter {
+
+        int resets;
+
+        public String greet(String name, String greeting) {
+            return greeting + " " + name;
+        }
+
+        public String greet(String name, int times) {
+            return name.repeat(times);
+        }
+
+        public boolean isEnabled() {
+            return true;
+        }
+
+        public void reset() {
+            resets++;
+            if (resets > 1) throw new IllegalStateException("already reset");
+        }
+    }
+
+    public interface Shouter {
+        String shout(String text);
+
+        String name();
+
+        String join(String first, String second);
+    }
+
+    /**
+     * Loaded through {@link #isolatedLoader()} to stand in for a leader in another plugin's classloader.
+     */
+    public static final class IsolatedLeader {
+
+        public String shout(String text) {
+            return text.toUpperCase();
+        }
+
+        public String name() {
+            return "leader";
+        }
+
+        public String join(String first, String second) {
+            return first + second;
+        }
+    }
+
+    private static Greeter proxy(LeaderGreeter leader) {
+        return (Greeter) Proxy.newProxyInstance(Greeter.class.getClassLoader(), new Class<?>[]{Greeter.class},
+                new GenericDemocracyBootstrapHandler(Greeter.class, leader));
+    }
+
+    @Test
+    void overloadsOfTheSameArityAreResolvedBySignature() {
+        Greeter greeter = proxy(new LeaderGreeter());
+
+        assertEquals("Hello Notch", greeter.greet("Notch", "Hello"));
+        assertEquals("abab", greeter.greet("ab", 2));
+        assertTrue(greeter.isEnabled());
+    }
+
+    @Test
+    void voidMethodsAndLeaderExceptionsPassThrough() {
+        LeaderGreeter leader = new LeaderGreeter();
+        Greeter greeter = proxy(leader);
+
+        greeter.reset();
+        assertEquals(1, leader.resets);
+        IllegalStateException exception = assertThrows(IllegalStateException.class, greeter::reset);
+        assertEquals("already reset", exception.getMessage());
+    }
+
+    @Test
+    void missingLeaderMethodsFailWhenCalled() {
+        Greeter greeter = proxy(new LeaderGreeter());
+
+        assertThrows(IllegalStateException.class, () -> greeter.farewell("Notch"));
+    }
+
+    @Test
+    void dispatchTableIsSharedPerApiAndLeaderClass() {
+        assertSame(DemocracyDispatchTable.of(Greeter.class, LeaderGreeter.class), DemocracyDispatchTable.of(Greeter.class, LeaderGreeter.class));
+        assertNotSame(DemocracyDispatchTable.of(Greeter.class, LeaderGreeter.class), DemocracyDispatchTable.of(Greeter.class, Object.class));
+    }
+
+    @Test
+    void sameLoaderLeaderMethodsAreCompiled() throws Exception {
+        DemocracyDispatchTable table = DemocracyDispatchTable.of(Greeter.class, LeaderGreeter.class);
+
+        assertTrue(table.isCompiled(Greeter.class.getMethod("greet", String.class, String.class)));
+        assertFalse(table.isCompiled(Greeter.class.getMethod("reset")), "void methods use the spreader");
+    }
+
+    @Test
+    void foreignLeaderMethodsAreCompiledWithTheLeadersLookup() throws Exception {
+        Map<String, Object> anchor = DemocracyLibJvmAnchor.anchorMap();
+        try (URLClassLoader leaderLoader = isolatedLoader()) {
+            Class<?> leaderType = leaderLoader.loadClass(IsolatedLeader.class.getName());
+            Field hostLookup = leaderLoader.loadClass(DemocracyInvokerHost.class.getName()).getDeclaredField("LOOKUP");
+            hostLookup.setAccessible(true);
+            anchor.put(GenericDemocracyBootstrapHandler.KEY_INVOKER_LOOKUP, hostLookup.get(null));
+            GenericDemocracyBootstrapHandler.invalidateDispatchTables();
+
+            DemocracyDispatchTable table = DemocracyDispatchTable.of(Shouter.class, leaderType);
+            assertTrue(table.isCompiled(Shouter.class.getMethod("shout", String.class)));
+            assertTrue(table.isCompiled(Shouter.class.getMethod("name")));
+            assertFalse(table.isCompiled(Shouter.class.getMethod("join", String.class, String.class)));
+
+            Shouter shouter = (Shouter) Proxy.newProxyInstance(Shouter.class.getClassLoader(), new Class<?>[]{Shouter.class},
+                    new GenericDemocracyBootstrapHandler(Shouter.class, leaderType.getConstructor().newInstance()));
+            assertEquals("HEY", shouter.shout("hey"));
+            assertEquals("leader", shouter.name());
+            assertEquals("ab", shouter.join("a", "b"));
+        } finally {
+            anchor.remove(GenericDemocracyBootstrapHandler.KEY_INVOKER_LOOKUP);
+            GenericDemocracyBootstrapHandler.invalidateDispatchTables();
+        }
+    }
+
+    @Test
+    void foreignLeaderWithoutAPublishedLookupStillWorks() throws Exception {
+        try (URLClassLoader leaderLoader = isolatedLoader()) {
+            Class<?> leaderType = leaderLoader.loadClass(IsolatedLeader.class.getName());
+
+            DemocracyDispatchTable table = DemocracyDispatchTable.of(Shouter.class, leaderType);
+            assertFalse(table.isCompiled(Shouter.class.getMethod("shout", String.class)));
+
+            Shouter shouter = (Shouter) Proxy.newProxyInstance(Shouter.class.getClassLoader(), new Class<?>[]{Shouter.class},
+                    new GenericDemocracyBootstrapHandler(Shouter.class, leaderType.getConstructor().newInstance()));
+            assertEquals("HEY", shouter.shout("hey"));
+        } finally {
+            GenericDemocracyBootstrapHandler.invalidateDispatchTables();
+        }
+    }
+
+    private static URLClassLoader isolatedLoader() {
+        return new URLClassLoader(new URL[]{
+                IsolatedLeader.class.getProtectionDomain().getCodeSource().getLocation(),
+                DemocracyInvokerHost.class.getProtectionDomain().getCodeSource().getLocation()
+        }, ClassLoader.getPlatformClassLoader());
+    }
+
+    @Test
+    void invalidatingDropsDispatchTables() {
+        DemocracyDispatchTable table = DemocracyDispatchTable.of(Greeter.class, LeaderGreeter.class);
+
+        GenericDemocracyBootstrapHandler.invalidateDispatchTables();
+
+        assertNotSame(table, DemocracyDispatchTable.of(Greeter.class, LeaderGreeter.class));
+    }
+}
@@ -0,0 +1,57 @@
+package net.democracycraft.democracyLib.internal.bootstrap.proxy;
+
+import net.democracycraft.democracyLib.api.service.mojang.MojangService;
+import net.democracycraft.democracyLib.internal.bootstrap.proxy.MojangServiceFollowerStubTest.LeaderMojangService;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DemocracyServiceProxiesTest {
+
+    public interface Named {
+        String getServiceName();
+    }
+
+    public interface Described {
+        String getServiceName();
+    }
+
+    /**
+     * Equal to every other instance with the same name, to check the cache compares leaders by identity.
+     */
+    public record LeaderNamed(String getServiceName) {
+    }
+
+    @Test
+    void sameLeaderServiceReturnsTheSameView() {
+        LeaderMojangService leader = new LeaderMojangService();
+
+        MojangService<?> first = DemocracyServiceProxies.mojangProxy(leader);
+        assertSame(first, DemocracyServiceProxies.mojangProxy(leader));
+        assertSame(first, DemocracyServiceProxyFactory.proxyAs(MojangService.class, leader));
+        assertNotSame(first, DemocracyServiceProxies.mojangProxy(new LeaderMojangService()));
+    }
+
+    @Test
+    void viewsAreKeyedByLeaderIdentityAndApi() {
+        LeaderNamed leader = new LeaderNamed("leader");
+
+        Named named = DemocracyServiceProxyFactory.proxyAs(Named.class, leader);
+        assertSame(named, DemocracyServiceProxyFactory.proxyAs(Named.class, leader));
+        assertEquals("leader", named.getServiceName());
+
+        assertNotSame(named, DemocracyServiceProxyFactory.proxyAs(Named.class, new LeaderNamed("leader")));
+        assertEquals("leader", DemocracyServiceProxyFactory.proxyAs(Described.class, leader).getServiceName());
+    }
+
+    @Test
+    void invalidateDropsEveryView() {
+        LeaderNamed leader = new LeaderNamed("leader");
+        Named named = DemocracyServiceProxyFactory.proxyAs(Named.class, leader);
+
+        DemocracyServiceProxies.invalidate();
+
+        assertEquals(0, DemocracyFollowerProxyCache.size());
+        assertNotSame(named, DemocracyServiceProxyFactory.proxyAs(Named.class, leader));
+    }
+}
@@ -0,0 +1,165 @@
+package net.democracycraft.democracyLib.internal.bootstrap.proxy;
+
+import net.democracycraft.democracyLib.api.data.SkinDto;
+import net.democracycraft.democracyLib.api.service.mojang.MojangService;
+import net.democracycraft.democracyLib.internal.bootstrap.DemocracyBridgeValues;
+import net.democracycraft.democracyLib.internal.bootstrap.DemocracyLibJvmAnchor;
+import org.bukkit.plugin.Plugin;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MojangServiceFollowerStubTest {
+
+    private static final UUID NOTCH = UUID.fromString("069a79f4-44e9-4726-a5be-fca90e38aaf5");
+
+    public record LeaderSkin(String value, String signature) {
+    }
+
+    /**
+     * Stands in for a MojangService loaded by the leader's classloader: same methods, unrelated type.
+     */
+    public static final class LeaderMojangService {
+
+        public Plugin getBoundPlugin() {
+            return null;
+        }
+
+        public Object getCache() {
+            return null;
+        }
+
+        public String getCachedName(UUID uniqueIdentifier) {
+            return NOTCH.equals(uniqueIdentifier) ? "Notch" : null;
+        }
+
+        public Object getCachedSkin(UUID uniqueIdentifier) {
+            return new LeaderSkin("dGV4dHVyZXM=", "c2ln");
+        }
+
+        public UUID getCachedUUID(String name) {
+            throw new IllegalArgumentException("invalid name: " + name);
+        }
+
+        public ExecutorService getExecutorService() {
+            return null;
+        }
+
+        public CompletableFuture<String> getName(UUID uniqueIdentifier) {
+            return CompletableFuture.completedFuture(getCachedName(uniqueIdentifier));
+        }
+
+        public String getServiceName() {
+            return "LeaderMojangService";
+        }
+
+        public CompletableFuture<Object> getSkin(UUID uniqueIdentifier) {
+            return CompletableFuture.completedFuture(getCachedSkin(uniqueIdentifier));
+        }
+
+        public CompletableFuture<UUID> getUUID(String name) {
+            return CompletableFuture.completedFuture(NOTCH);
+        }
+
+        public CompletableFuture<Map<String, UUID>> getUUIDs(Collection<String> names) {
+            return CompletableFuture.completedFuture(Map.of("Notch", NOTCH));
+        }
+    }
+
+    /**
+     * A leader built against protocol 1: none of the methods the contract added in protocol 2.
+     */
+    public static final class ProtocolOneLeaderMojangService {
+
+        public Plugin getBoundPlugin() {
+            return null;
+        }
+
+        public Object getCache() {
+            return null;
+        }
+
+        public ExecutorService getExecutorService() {
+            return null;
+        }
+
+        public CompletableFuture<String> getName(UUID uniqueIdentifier) {
+            return CompletableFuture.completedFuture("Notch");
+        }
+
+        public String getServiceName() {
+            return "ProtocolOneLeaderMojangService";
+        }
+
+        public CompletableFuture<Object> getSkin(UUID uniqueIdentifier) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        public CompletableFuture<UUID> getUUID(String name) {
+            return CompletableFuture.completedFuture(NOTCH);
+        }
+    }
+
+    @Test
+    void methodsTheLeaderPredatesAreUnavailableNotFatal() {
+        MojangService<Plugin> service = DemocracyServiceProxies.mojangProxy(new ProtocolOneLeaderMojangService());
+
+        assertEquals("Notch", service.getName(NOTCH).join());
+        assertThrows(UnsupportedOperationException.class, () -> service.getCachedName(NOTCH));
+        assertThrows(UnsupportedOperationException.class, () -> service.getCachedSkin(NOTCH));
+        assertThrows(UnsupportedOperationException.class, () -> service.getUUIDs(List.of("Notch")));
+    }
+
+    @Test
+    void callsAreForwardedToTheLeader() {
+        MojangService<Plugin> service = DemocracyServiceProxies.mojangProxy(new LeaderMojangService());
+
+        assertInstanceOf(MojangServiceFollowerStub.class, service);
+        assertEquals("LeaderMojangService", service.getServiceName());
+        assertEquals("Notch", service.getCachedName(NOTCH));
+        assertNull(service.getCachedName(UUID.randomUUID()));
+        assertEquals("Notch", service.getName(NOTCH).join());
+        assertEquals(Map.of("Notch", NOTCH), service.getUUIDs(List.of("Notch")).join());
+    }
+
+    @AfterEach
+    void cleanup() {
+        DemocracyLibJvmAnchor.anchorMap().remove(DemocracyBridgeValues.KEY_VALUE_ENCODER);
+    }
+
+    @Test
+    void leaderSkinsAreAdapted() {
+        // What the leader's generated codec would publish for its own skin type.
+        UnaryOperator<Object> leaderEncoder = value -> value instanceof LeaderSkin skin
+                ? Map.of("@type", "SkinDto", "value", skin.value(), "signature", skin.signature())
+                : value;
+        DemocracyLibJvmAnchor.anchorMap().put(DemocracyBridgeValues.KEY_VALUE_ENCODER, leaderEncoder);
+        MojangService<Plugin> service = DemocracyServiceProxies.mojangProxy(new LeaderMojangService());
+
+        SkinDto cached = service.getCachedSkin(NOTCH);
+        assertEquals("dGV4dHVyZXM=", cached.value());
+        assertEquals("c2ln", service.getSkin(NOTCH).join().signature());
+    }
+
+    @Test
+    void leaderExceptionsAreNotWrapped() {
+        MojangService<Plugin> service = DemocracyServiceProxies.mojangProxy(new LeaderMojangService());
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> service.getCachedUUID("?"));
+        assertEquals("invalid name: ?", exception.getMessage());
+    }
+
+    @Test
+    void proxyFactoryUsesTheStub() {
+        assertInstanceOf(MojangServiceFollowerStub.class, DemocracyServiceProxyFactory.proxyAs(MojangService.class, new LeaderMojangService()));
+    }
+}
@@ -0,0 +1,136 @@
+package net.democracycraft.democracyLib.internal.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedExpiringMapTest {
+
+    private final AtomicLong now = new AtomicLong(1_000);
+
+    @Test
+    void entriesExpireAfterTimeToLive() {
+        BoundedExpiringMap<String, String> map = new BoundedExpiringMap<>(10, 100, now::get);
+        map.put("a", "1");
+
+        now.addAndGet(99);
+        assertEquals("1", map.get("a"));
+
+        now.addAndGet(1);
+        assertNull(map.get("a"));
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    void sizeNeverExceedsMaximum() {
+        BoundedExpiringMap<Integer, Integer> map = new BoundedExpiringMap<>(50, 0, now::get);
+        for (int i = 0; i < 1_000; i++) {
+            map.put(i, i);
+        }
+        assertEquals(50, map.size());
+        assertEquals(950, map.evictionCount());
+    }
+
+    @Test
+    void frequentlyReadEntriesSurviveScans() {
+        BoundedExpiringMap<String, Integer> map = new BoundedExpiringMap<>(10, 0, now::get);
+        map.put("hot", 1);
+        map.get("hot"); // promoted to the protected segment
+
+        // a burst of one-off keys only churns the probation segment
+        for (int i = 0; i < 100; i++) {
+            map.put("cold" + i, i);
+        }
+
+        assertEquals(Integer.valueOf(1), map.get("hot"));
+        assertNull(map.get("cold0"));
+    }
+
+    @Test
+    void cleanUpRemovesOnlyExpiredEntries() {
+        BoundedExpiringMap<String, String> map = new BoundedExpiringMap<>(10, 100, now::get);
+        map.put("old", "1");
+        now.addAndGet(60);
+        map.put("new", "2");
+        now.addAndGet(60);
+
+        assertEquals(1, map.cleanUp());
+        assertEquals(1, map.size());
+        assertEquals("2", map.get("new"));
+    }
+
+    @Test
+    void completedFutureIsSharedPerEntryAndRenewedOnWrite() {
+        BoundedExpiringMap<String, String> map = new BoundedExpiringMap<>(10, 100, now::get);
+        map.put("a", "1");
+
+        CompletableFuture<String> first = map.getCompleted("a");
+        assertSame(first, map.getCompleted("a"));
+        assertEquals("1", first.join());
+        assertThrows(UnsupportedOperationException.class, () -> first.obtrudeValue("changed"));
+
+        map.put("a", "2");
+        assertEquals("2", map.getCompleted("a").join());
+
+        now.addAndGet(100);
+        assertNull(map.getCompleted("a"));
+    }
+
+    @Test
+    void staleEntryIsServedWhileOneRefreshRuns() {
+        BoundedExpiringMap<String, String> map = new BoundedExpiringMap<>(10, 100, 50, now::get);
+        map.put("a", "old");
+        List<CompletableFuture<Object>> refreshes = new ArrayList<>();
+        Function<String, CompletableFuture<Object>> refresher = key -> {
+            CompletableFuture<Object> refresh = new CompletableFuture<>();
+            refreshes.add(refresh);
+            return refresh;
+        };
+
+        assertEquals("old", map.getCompleted("a", refresher).join());
+        assertTrue(refreshes.isEmpty(), "fresh entries are not refreshed");
+
+        now.addAndGet(60);
+        assertEquals("old", map.getCompleted("a", refresher).join());
+        assertEquals("old", map.getCompleted("a", refresher).join());
+        assertEquals(1, refreshes.size(), "concurrent stale hits share one refresh");
+
+        refreshes.get(0).completeExceptionally(new IllegalStateException("boom"));
+        map.getCompleted("a", refresher);
+        assertEquals(2, refreshes.size(), "a failed refresh is retried by the next hit");
+
+        map.put("a", "new");
+        refreshes.get(1).complete(null);
+        assertEquals("new", map.getCompleted("a", refresher).join());
+        assertEquals(2, refreshes.size());
+        assertEquals(2, map.refreshCount());
+    }
+
+    @Test
+    void refreshIntervalNotBelowTtlDisablesRefreshing() {
+        assertEquals(0, new BoundedExpiringMap<>(10, 100, 100, now::get).refreshAfterMillis());
+        assertEquals(50, new BoundedExpiringMap<>(10, 0, 50, now::get).refreshAfterMillis());
+    }
+
+    @Test
+    void writeListenerReceivesTheEntryWriteTime() {
+        BoundedExpiringMap<String, String> map = new BoundedExpiringMap<>(10, 100, now::get);
+        List<Long> writtenAt = new ArrayList<>();
+        map.setWriteListener((key, value, time) -> writtenAt.add(time));
+
+        map.put("a", "1");
+        now.addAndGet(10);
+        map.restore("b", "2", now.get());
+
+        assertEquals(List.of(1_000L), writtenAt, "restores are not reported");
+        map.forEachEntry((key, value, time) -> {
+            if (key.equals("a")) assertEquals(1_000L, time);
+        });
+    }
+}
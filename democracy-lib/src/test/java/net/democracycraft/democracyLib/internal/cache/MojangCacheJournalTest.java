@@ -0,0 +1,92 @@
+package net.democracycraft.democracyLib.internal.cache;
+
+import net.democracycraft.democracyLib.api.data.SkinDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MojangCacheJournalTest {
+
+    private static final UUID PLAYER_ID = UUID.fromString("069a79f4-44e9-4726-a5be-fca90e38aaf5");
+    private static final Logger LOGGER = Logger.getLogger("MojangCacheJournalTest");
+
+    private ExecutorService executor;
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        executor = Executors.newCachedThreadPool();
+        file = Files.createTempDirectory("democracylib-journal").resolve("mojang-cache.log");
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void flushedEntriesAreRestoredByANewCache() {
+        MojangServiceDemocracyCacheImpl cache = new MojangServiceDemocracyCacheImpl(executor);
+        MojangCacheJournal journal = new MojangCacheJournal(file, cache, LOGGER);
+        journal.loadAsync(executor).join();
+
+        cache.getUniqueIdentifierToNameMap().put(PLAYER_ID, "Notch");
+        cache.getUniqueIdentifierToSkinMap().put(PLAYER_ID, SkinDto.of("dGV4dHVyZXM=", null));
+        assertEquals(2, journal.pendingRecordCount());
+        journal.flush();
+        assertEquals(0, journal.pendingRecordCount());
+
+        MojangServiceDemocracyCacheImpl restarted = new MojangServiceDemocracyCacheImpl(executor);
+        new MojangCacheJournal(file, restarted, LOGGER).loadAsync(executor).join();
+
+        assertEquals("Notch", restarted.getUniqueIdentifierToNameMap().get(PLAYER_ID));
+        assertEquals(PLAYER_ID, restarted.getNameToUniqueIdentifierMap().get("notch"));
+        SkinDto skin = restarted.getUniqueIdentifierToSkinMap().get(PLAYER_ID);
+        assertEquals("dGV4dHVyZXM=", skin.value());
+        assertNull(skin.signature());
+    }
+
+    @Test
+    void compactionKeepsOnlyTheLatestRecordPerKey() throws IOException {
+        MojangServiceDemocracyCacheImpl cache = new MojangServiceDemocracyCacheImpl(executor);
+        MojangCacheJournal journal = new MojangCacheJournal(file, cache, LOGGER);
+        journal.loadAsync(executor).join();
+
+        cache.getUniqueIdentifierToNameMap().put(PLAYER_ID, "Notch");
+        cache.getUniqueIdentifierToNameMap().put(PLAYER_ID, "Jeb");
+        journal.flush();
+        assertEquals(2, Files.readAllLines(file).size());
+
+        journal.compact();
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(1, lines.size());
+        assertTrue(lines.get(0).endsWith("\tJeb"));
+    }
+
+    @Test
+    void corruptRecordsAreSkipped() throws IOException {
+        Files.write(file, List.of(
+                "N\tnot-a-number\t" + PLAYER_ID + "\tBroken",
+                "N\t" + System.currentTimeMillis() + "\t" + PLAYER_ID + "\tNotch",
+                "S\t123"
+        ));
+
+        MojangServiceDemocracyCacheImpl cache = new MojangServiceDemocracyCacheImpl(executor);
+        new MojangCacheJournal(file, cache, LOGGER).loadAsync(executor).join();
+
+        assertEquals("Notch", cache.getUniqueIdentifierToNameMap().get(PLAYER_ID));
+        assertEquals(1, cache.getUniqueIdentifierToNameMap().size());
+    }
+}
@@ -0,0 +1,36 @@
+package net.democracycraft.democracyLib.internal.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MojangNameKeysTest {
+
+    private static final UUID PLAYER_ID = UUID.fromString("069a79f4-44e9-4726-a5be-fca90e38aaf5");
+
+    @Test
+    void lookupKeyFindsLowerCasedEntryWhateverTheSpelling() {
+        BoundedExpiringMap<String, UUID> bounded = new BoundedExpiringMap<>(10, 0);
+        Map<String, UUID> plain = new HashMap<>();
+        bounded.put(MojangNameKeys.normalize("Notch_42"), PLAYER_ID);
+        plain.put(MojangNameKeys.normalize("Notch_42"), PLAYER_ID);
+
+        for (String spelling : new String[]{"notch_42", "Notch_42", "NOTCH_42", "nOtCh_42"}) {
+            assertEquals(PLAYER_ID, bounded.get(MojangNameKeys.lookupKey(spelling)), spelling);
+            assertEquals(PLAYER_ID, plain.get(MojangNameKeys.lookupKey(spelling)), spelling);
+        }
+        assertNull(bounded.get(MojangNameKeys.lookupKey("Notch_43")));
+        assertNull(bounded.get(MojangNameKeys.lookupKey("Notch")));
+    }
+
+    @Test
+    void lowerCaseNamesAreUsedAsIs() {
+        String name = "notch";
+        assertSame(name, MojangNameKeys.normalize(name));
+        assertSame(name, MojangNameKeys.lookupKey(name));
+    }
+}
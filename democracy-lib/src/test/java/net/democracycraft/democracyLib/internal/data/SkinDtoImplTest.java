@@ -0,0 +1,66 @@
+package net.democracycraft.democracyLib.internal.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SkinDtoImplTest {
+
+    private static final String TEXTURES = Base64.getEncoder().encodeToString(
+            "{\"textures\":{\"SKIN\":{\"url\":\"http://textures.minecraft.net/texture/abc\"}}}".getBytes(StandardCharsets.UTF_8));
+
+    @Test
+    void base64IsStoredDecodedAndRestoredExactly() {
+        SkinDtoImpl skin = new SkinDtoImpl(TEXTURES, "c2lnbmF0dXJl");
+
+        assertEquals(TEXTURES, skin.value());
+        assertEquals("c2lnbmF0dXJl", skin.signature());
+        assertTrue(skin.payloadSize() < TEXTURES.length() + "c2lnbmF0dXJl".length());
+    }
+
+    @Test
+    void nonCanonicalAndNonBase64TextSurvivesUnchanged() {
+        for (String text : new String[]{"dGV4dA", "not base64!", "üñï", "日本"}) {
+            SkinDtoImpl skin = new SkinDtoImpl(text, null);
+            assertEquals(text, skin.value());
+            assertNull(skin.signature());
+        }
+    }
+
+    @Test
+    void equalSkinsShareTheirPayload() {
+        SkinDtoImpl first = new SkinDtoImpl(TEXTURES, "c2ln");
+        SkinDtoImpl second = new SkinDtoImpl(new String(TEXTURES.toCharArray()), "c2ln");
+
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        assertNotEquals(first, new SkinDtoImpl(TEXTURES, null));
+    }
+
+    @Test
+    void concurrentInterningYieldsOnePayload() throws Exception {
+        String texture = Base64.getEncoder().encodeToString("concurrent".getBytes(StandardCharsets.UTF_8));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<SkinDtoImpl>> skins = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                skins.add(executor.submit(() -> new SkinDtoImpl(new String(texture.toCharArray()), null)));
+            }
+            SkinDtoImpl first = skins.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<SkinDtoImpl> skin : skins) {
+                assertEquals(first, skin.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package net.democracycraft.democracyLib.internal.runtime;
+
+import net.democracycraft.democracyLib.api.config.runtime.DemocracyRuntimeConfiguration;
+import net.democracycraft.democracyLib.internal.config.DemocracyRuntimeConfigurationImpl;
+import net.democracycraft.democracyLib.internal.service.engine.AsyncDemocracyServiceImpl;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedDemocracyExecutorTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final BoundedDemocracyExecutor executor = new BoundedDemocracyExecutor(new DemocracyRuntimeConfigurationImpl() {
+        @Override
+        public int getCoreThreads() {
+            return 1;
+        }
+
+        @Override
+        public int getMaxThreads() {
+            return 2;
+        }
+
+        @Override
+        public int getQueueCapacity() {
+            return 1;
+        }
+    });
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void saturatedPoolFailsTheFutureInsteadOfSpawningThreads() throws Exception {
+        TestService service = new TestService(executor);
+        CountDownLatch running = new CountDownLatch(2);
+
+        // the core thread takes the first task, the second waits in the queue,
+        // and the third (queue full) starts the second and last thread
+        CompletableFuture<String> first = service.run(() -> block(running));
+        CompletableFuture<String> queued = service.run(() -> "queued");
+        CompletableFuture<String> third = service.run(() -> block(running));
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<String> rejected = service.run(() -> "rejected");
+
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> rejected.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(RejectedExecutionException.class, failure.getCause());
+        assertEquals(2, executor.activeCount());
+        assertEquals(1, executor.queuedCount());
+        assertEquals(1, executor.rejectedCount());
+        assertEquals(2, executor.getPoolSize(), "the pool must never grow past max-threads");
+
+        release.countDown();
+        assertEquals("done", first.get(5, TimeUnit.SECONDS));
+        assertEquals("done", third.get(5, TimeUnit.SECONDS));
+        assertEquals("queued", queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void defaultPoolUsesEveryThreadBeforeQueueing() throws Exception {
+        DemocracyRuntimeConfigurationImpl defaults = new DemocracyRuntimeConfigurationImpl();
+        BoundedDemocracyExecutor pool = new BoundedDemocracyExecutor(defaults);
+        try {
+            int threads = defaults.getMaxThreads();
+            CountDownLatch running = new CountDownLatch(threads);
+            for (int i = 0; i < threads; i++) {
+                pool.execute(() -> block(running));
+            }
+
+            assertTrue(running.await(5, TimeUnit.SECONDS));
+            assertEquals(threads, pool.activeCount());
+            assertEquals(0, pool.queuedCount());
+            assertTrue(pool.allowsCoreThreadTimeOut(), "idle workers must not be kept forever");
+        } finally {
+            release.countDown();
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void invalidLimitsAreClampedInsteadOfThrowing() {
+        BoundedDemocracyExecutor pool = new BoundedDemocracyExecutor(new DemocracyRuntimeConfiguration() {
+            @Override
+            public int getCoreThreads() {
+                return 8;
+            }
+
+            @Override
+            public int getMaxThreads() {
+                return 0;
+            }
+
+            @Override
+            public int getQueueCapacity() {
+                return 0;
+            }
+
+            @Override
+            public long getKeepAliveSeconds() {
+                return 0;
+            }
+
+            @Override
+            public boolean isVirtualThreadsEnabled() {
+                return false;
+            }
+
+            @Override
+            public int getServiceConcurrencyLimit() {
+                return 1;
+            }
+        });
+        try {
+            assertEquals(8, pool.getCorePoolSize());
+            assertEquals(8, pool.getMaximumPoolSize());
+            assertEquals(1, pool.getQueue().remainingCapacity());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void rejectionsAfterShutdownAreNotCountedAsSaturation() {
+        executor.shutdown();
+
+        RejectedExecutionException rejection = assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> {}));
+        assertTrue(rejection.getMessage().contains("shut down"));
+        assertEquals(0, executor.rejectedCount());
+    }
+
+    @Test
+    void workersCarryTheServiceLabelOnlyWhileRunningItsTasks() throws Exception {
+        TestService service = new TestService(executor);
+        String poolName = executor.submit(() -> Thread.currentThread().getName()).get(5, TimeUnit.SECONDS);
+
+        assertEquals("Async-DemocracyLib-[DemocracyLibProcess]-[TestService]",
+                service.run(() -> Thread.currentThread().getName()).get(5, TimeUnit.SECONDS));
+        // the single core thread runs both tasks, and must be back to its own name
+        assertEquals(poolName, executor.submit(() -> Thread.currentThread().getName()).get(5, TimeUnit.SECONDS));
+    }
+
+    private String block(CountDownLatch running) {
+        running.countDown();
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "done";
+    }
+
+    private static final class TestService extends AsyncDemocracyServiceImpl {
+
+        private TestService(ExecutorService executor) {
+            super(executor);
+        }
+
+        private CompletableFuture<String> run(Supplier<String> task) {
+            return supplyAsync(task);
+        }
+
+        @Override
+        public @NotNull String getServiceName() {
+            return "TestService";
+        }
+
+        @Override
+        public @NotNull ExecutorService getExecutorService() {
+            return executor;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package net.democracycraft.democracyLib.internal.runtime;
+
+import net.democracycraft.democracyLib.internal.config.DemocracyRuntimeConfigurationImpl;
+import net.democracycraft.democracyLib.internal.service.engine.AsyncDemocracyServiceImpl;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VirtualThreadDemocracyExecutorTest {
+
+    private static final int LIMIT = 2;
+
+    private final VirtualThreadDemocracyExecutor executor = new VirtualThreadDemocracyExecutor(new DemocracyRuntimeConfigurationImpl() {
+        @Override
+        public int getServiceConcurrencyLimit() {
+            return LIMIT;
+        }
+    });
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void eachServiceIsCappedIndependently() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+
+        TestService first = new TestService(executor);
+        TestService second = new TestService(executor);
+        List<CompletableFuture<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            results.add(first.run(() -> {
+                peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    return release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                } finally {
+                    running.decrementAndGet();
+                }
+            }));
+        }
+
+        // the first service is saturated, the second still gets through
+        assertEquals("other", second.run(() -> "other").get(5, TimeUnit.SECONDS));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while ((executor.queuedCount() != 8 || executor.activeCount() != LIMIT) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(8, executor.queuedCount());
+        assertEquals(LIMIT, executor.activeCount());
+
+        release.countDown();
+        for (CompletableFuture<Boolean> result : results) {
+            assertTrue(result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(LIMIT, peak.get());
+    }
+
+    private static final class TestService extends AsyncDemocracyServiceImpl {
+
+        private TestService(ExecutorService executor) {
+            super(executor);
+        }
+
+        private <T> CompletableFuture<T> run(Supplier<T> task) {
+            return supplyAsync(task);
+        }
+
+        @Override
+        public @NotNull String getServiceName() {
+            return "TestService";
+        }
+
+        @Override
+        public @NotNull ExecutorService getExecutorService() {
+            return executor;
+        }
+    }
+}
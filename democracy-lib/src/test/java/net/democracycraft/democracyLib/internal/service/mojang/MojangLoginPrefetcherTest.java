@@ -0,0 +1,88 @@
+package net.democracycraft.democracyLib.internal.service.mojang;
+
+import net.democracycraft.democracyLib.api.data.SkinDto;
+import net.democracycraft.democracyLib.internal.cache.MojangServiceDemocracyCacheImpl;
+import net.democracycraft.democracyLib.internal.config.MojangServiceConfigurationImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MojangLoginPrefetcherTest {
+
+    private static final UUID PLAYER_ID = UUID.fromString("069a79f4-44e9-4726-a5be-fca90e38aaf5");
+
+    private final AtomicLong now = new AtomicLong(1_000);
+    private ExecutorService executor;
+    private MojangServiceDemocracyCacheImpl cache;
+    private MojangLoginPrefetcher prefetcher;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newCachedThreadPool();
+        cache = new MojangServiceDemocracyCacheImpl(executor);
+        prefetcher = new MojangLoginPrefetcher(cache, new MojangServiceConfigurationImpl() {
+            @Override
+            public int getLoginPrefetchMaxPerMinute() {
+                return 2;
+            }
+        }, now::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void loginProfileIsCachedWithoutLookup() {
+        cache.getUnknownNames().add("notch");
+
+        SkinDto loginSkin = SkinDto.of("dGV4dHVyZXM=", "c2ln");
+        assertTrue(prefetcher.warm(PLAYER_ID, "Notch", loginSkin));
+
+        assertEquals("Notch", cache.getUniqueIdentifierToNameMap().get(PLAYER_ID));
+        assertEquals(PLAYER_ID, cache.getNameToUniqueIdentifierMap().get("notch"));
+        SkinDto skin = cache.getUniqueIdentifierToSkinMap().get(PLAYER_ID);
+        assertSame(loginSkin, skin);
+        assertEquals("dGV4dHVyZXM=", skin.value());
+        assertEquals("c2ln", skin.signature());
+        assertFalse(cache.getUnknownNames().contains("notch"));
+    }
+
+    @Test
+    void offlineModeUuidsAreIgnored() {
+        UUID offline = UUID.nameUUIDFromBytes("OfflinePlayer:Notch".getBytes(StandardCharsets.UTF_8));
+
+        assertFalse(prefetcher.warm(offline, "Notch", null));
+        assertNull(cache.getNameToUniqueIdentifierMap().get("notch"));
+    }
+
+    @Test
+    void unchangedProfileIsNotRewritten() {
+        assertTrue(prefetcher.warm(PLAYER_ID, "Notch", SkinDto.of("dGV4dHVyZXM=", null)));
+        assertFalse(prefetcher.warm(PLAYER_ID, "Notch", SkinDto.of("dGV4dHVyZXM=", null)));
+        assertTrue(prefetcher.warm(PLAYER_ID, "Notch", SkinDto.of("bmV3", null)));
+        assertEquals(2, prefetcher.warmedCount());
+    }
+
+    @Test
+    void joinFloodIsCappedPerMinute() {
+        assertTrue(prefetcher.warm(UUID.randomUUID(), "Bot1", null));
+        assertTrue(prefetcher.warm(UUID.randomUUID(), "Bot2", null));
+        assertFalse(prefetcher.warm(UUID.randomUUID(), "Bot3", null));
+        assertEquals(1, prefetcher.skippedCount());
+        assertEquals(2, cache.getUniqueIdentifierToNameMap().size());
+
+        now.addAndGet(TimeUnit.MINUTES.toMillis(1));
+        assertTrue(prefetcher.warm(UUID.randomUUID(), "Bot4", null));
+    }
+}
@@ -0,0 +1,165 @@
+package net.democracycraft.democracyLib.internal.service.mojang;
+
+import net.democracycraft.democracyLib.api.service.mojang.MojangRateLimitedException;
+import net.democracycraft.democracyLib.internal.config.MojangServiceConfigurationImpl;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MojangRateLimiterTest {
+
+    private static final MojangRateLimiter.Route ROUTE = MojangRateLimiter.Route.PROFILE_API;
+
+    @Test
+    void excessRequestsAreQueuedNotFailed() throws Exception {
+        // 60/min allows a burst of 10, then one request per second
+        MojangRateLimiter limiter = new MojangRateLimiter(configuration(60, 3, 10));
+        AtomicInteger started = new AtomicInteger();
+
+        List<CompletableFuture<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            int value = i;
+            results.add(limiter.submit(ROUTE, () -> {
+                started.incrementAndGet();
+                return CompletableFuture.completedFuture(value);
+            }));
+        }
+
+        assertEquals(10, started.get());
+        assertEquals(2, limiter.queueDepth(ROUTE));
+        assertEquals(2, limiter.throttledCount(ROUTE));
+        assertEquals(0, limiter.queueDepth(MojangRateLimiter.Route.SESSION_SERVER), "routes have separate budgets");
+
+        for (int i = 0; i < 12; i++) {
+            assertEquals(Integer.valueOf(i), results.get(i).get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(0, limiter.queueDepth(ROUTE));
+    }
+
+    @Test
+    void queuedRequestsAreSentFromTheExecutorNotTheSubmitter() throws Exception {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "drain"));
+        try {
+            // 600/min allows a burst of 100, then one request every 100 ms
+            MojangRateLimiter limiter = new MojangRateLimiter(configuration(600, 3, 10), executor, scheduler);
+            List<String> threads = new CopyOnWriteArrayList<>();
+
+            List<CompletableFuture<String>> results = new ArrayList<>();
+            for (int i = 0; i < 102; i++) {
+                results.add(limiter.submit(ROUTE, () -> {
+                    threads.add(Thread.currentThread().getName());
+                    return CompletableFuture.completedFuture("ok");
+                }));
+            }
+            for (CompletableFuture<String> result : results) {
+                assertEquals("ok", result.get(5, TimeUnit.SECONDS));
+            }
+
+            String submitter = Thread.currentThread().getName();
+            assertTrue(threads.subList(0, 100).stream().allMatch(submitter::equals));
+            assertEquals(List.of("drain", "drain"), threads.subList(100, 102));
+        } finally {
+            executor.shutdownNow();
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    void queuedRequestsFailOnceTheSchedulerIsGone() {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        scheduler.shutdown();
+        MojangRateLimiter limiter = new MojangRateLimiter(configuration(60, 3, 10), Runnable::run, scheduler);
+
+        for (int i = 0; i < 10; i++) {
+            limiter.submit(ROUTE, () -> CompletableFuture.completedFuture("ok"));
+        }
+        CompletableFuture<String> queued = limiter.submit(ROUTE, () -> CompletableFuture.completedFuture("late"));
+
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> queued.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(RejectedExecutionException.class, failure.getCause());
+        assertEquals(0, limiter.queueDepth(ROUTE));
+    }
+
+    @Test
+    void closingSendsTheQueueBeforeThePoolsGo() throws Exception {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        MojangRateLimiter limiter = new MojangRateLimiter(configuration(60, 3, 10), executor, scheduler);
+
+        for (int i = 0; i < 10; i++) {
+            limiter.submit(ROUTE, () -> CompletableFuture.completedFuture("ok"));
+        }
+        CompletableFuture<String> queued = limiter.submit(ROUTE, () -> CompletableFuture.completedFuture("queued"));
+        assertEquals(1, limiter.queueDepth(ROUTE));
+
+        limiter.close();
+        scheduler.shutdown();
+        executor.shutdown();
+
+        assertEquals("queued", queued.get(5, TimeUnit.SECONDS));
+        assertEquals("late", limiter.submit(ROUTE, () -> CompletableFuture.completedFuture("late")).get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void rateLimitedRequestIsRetriedAfterRetryAfter() throws Exception {
+        MojangRateLimiter limiter = new MojangRateLimiter(configuration(600, 3, 10));
+        AtomicInteger attempts = new AtomicInteger();
+
+        long start = System.nanoTime();
+        String result = limiter.submit(ROUTE, () -> attempts.incrementAndGet() == 1
+                ? CompletableFuture.failedFuture(new MojangRateLimitedException("429", 200))
+                : CompletableFuture.completedFuture("ok")).get(5, TimeUnit.SECONDS);
+
+        assertEquals("ok", result);
+        assertEquals(2, attempts.get());
+        assertEquals(1, limiter.rateLimitedCount(ROUTE));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(200), "Retry-After must be honoured");
+    }
+
+    @Test
+    void lookupFailsWithRateLimitedExceptionOnceRetriesAreExhausted() {
+        MojangRateLimiter limiter = new MojangRateLimiter(configuration(600, 2, 10));
+        AtomicInteger attempts = new AtomicInteger();
+
+        CompletableFuture<String> result = limiter.submit(ROUTE, () -> {
+            attempts.incrementAndGet();
+            return CompletableFuture.failedFuture(new MojangRateLimitedException("429", -1));
+        });
+
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(MojangRateLimitedException.class, failure.getCause());
+        assertEquals(3, attempts.get(), "one attempt plus two retries");
+    }
+
+    private static MojangServiceConfigurationImpl configuration(int requestsPerMinute, int maxRetries, long backoffMillis) {
+        return new MojangServiceConfigurationImpl() {
+            @Override
+            public int getProfileApiRequestsPerMinute() {
+                return requestsPerMinute;
+            }
+
+            @Override
+            public int getRateLimitMaxRetries() {
+                return maxRetries;
+            }
+
+            @Override
+            public long getRateLimitInitialBackoffMillis() {
+                return backoffMillis;
+            }
+        };
+    }
+}
@@ -0,0 +1,406 @@
+package net.democracycraft.democracyLib.internal.service.mojang;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import net.democracycraft.democracyLib.api.config.mojang.MojangServiceConfiguration;
+import net.democracycraft.democracyLib.api.data.SkinDto;
+import net.democracycraft.democracyLib.api.service.mojang.MojangRateLimitedException;
+import net.democracycraft.democracyLib.internal.cache.MojangServiceDemocracyCacheImpl;
+import net.democracycraft.democracyLib.internal.config.MojangServiceConfigurationImpl;
+import org.bukkit.plugin.Plugin;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Proxy;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MojangServiceImplTest {
+
+    private static final UUID PLAYER_ID = UUID.fromString("069a79f4-44e9-4726-a5be-fca90e38aaf5");
+    private static final String PLAYER_NAME = "Notch";
+    private static final int CALLERS = 32;
+
+    private HttpServer server;
+    private ExecutorService executor;
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final CountDownLatch releaseResponses = new CountDownLatch(1);
+    private final AtomicInteger flakyFailures = new AtomicInteger();
+
+    private MojangServiceImpl<Plugin> service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/session/", exchange -> respond(exchange,
+                "{\"id\":\"069a79f444e94726a5befca90e38aaf5\",\"name\":\"" + PLAYER_NAME + "\",\"properties\":[" +
+                        "{\"name\":\"textures\",\"value\":\"dGV4dHVyZXM=\",\"signature\":\"c2ln\"}]}"));
+        server.createContext("/profiles/", exchange -> respond(exchange,
+                "{\"id\":\"069a79f444e94726a5befca90e38aaf5\",\"name\":\"" + PLAYER_NAME + "\"}"));
+        server.createContext("/profiles/Ghost", exchange -> respondStatus(exchange, 204));
+        server.createContext("/profiles/Limited", exchange -> respondStatus(exchange, 429));
+        server.createContext("/bulk", this::respondBulk);
+        server.createContext("/flaky/", exchange -> {
+            if (flakyFailures.getAndDecrement() > 0) {
+                respondStatus(exchange, 500);
+            } else {
+                respond(exchange, "{\"id\":\"069a79f444e94726a5befca90e38aaf5\",\"name\":\"Jeb\"}");
+            }
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        executor = Executors.newCachedThreadPool();
+        service = createService(new MojangServiceConfigurationImpl());
+    }
+
+    private MojangServiceImpl<Plugin> createService(MojangServiceConfiguration configuration) {
+        return createService(configuration, MojangServerSkinSource.NONE);
+    }
+
+    private MojangServiceImpl<Plugin> createService(MojangServiceConfiguration configuration, MojangServerSkinSource serverSkinSource) {
+        String base = "http://127.0.0.1:" + server.getAddress().getPort();
+        return new MojangServiceImpl<>(
+                stubPlugin(),
+                new MojangServiceDemocracyCacheImpl(executor),
+                new MojangRequestCoalescer(),
+                new MojangRateLimiter(configuration),
+                HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build(),
+                new MojangEndpoints(base + "/session/", base + "/profiles/", base + "/bulk"),
+                configuration,
+                serverSkinSource
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseResponses.countDown();
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentNameMissesShareOneFetch() throws Exception {
+        List<CompletableFuture<String>> results = callConcurrently(() -> service.getName(PLAYER_ID));
+
+        releaseResponses.countDown();
+        for (CompletableFuture<String> result : results) {
+            assertEquals(PLAYER_NAME, result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, requestCount.get(), "concurrent callers must share a single HTTP request");
+    }
+
+    @Test
+    void concurrentUuidMissesShareOneFetchIgnoringCase() throws Exception {
+        AtomicInteger caller = new AtomicInteger();
+        List<CompletableFuture<UUID>> results = callConcurrently(() ->
+                service.getUUID(caller.getAndIncrement() % 2 == 0 ? "notch" : "NOTCH"));
+
+        releaseResponses.countDown();
+        for (CompletableFuture<UUID> result : results) {
+            assertEquals(PLAYER_ID, result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, requestCount.get(), "concurrent callers must share a single HTTP request");
+    }
+
+    @Test
+    void completedLookupIsServedFromCacheAfterwards() throws Exception {
+        releaseResponses.countDown();
+        assertNotNull(service.getSkin(PLAYER_ID).get(5, TimeUnit.SECONDS));
+        assertNotNull(service.getSkin(PLAYER_ID).get(5, TimeUnit.SECONDS));
+        assertEquals(1, requestCount.get());
+    }
+
+    @Test
+    void failedRefreshIsRetriedByALaterHit() throws Exception {
+        releaseResponses.countDown();
+        flakyFailures.set(1);
+        MojangServiceConfigurationImpl configuration = new MojangServiceConfigurationImpl();
+        MojangServiceDemocracyCacheImpl cache = new MojangServiceDemocracyCacheImpl(executor, configuration);
+        String base = "http://127.0.0.1:" + server.getAddress().getPort();
+        MojangServiceImpl<Plugin> flaky = new MojangServiceImpl<>(stubPlugin(), cache, new MojangRequestCoalescer(),
+                new MojangRateLimiter(configuration), HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build(),
+                new MojangEndpoints(base + "/flaky/", base + "/profiles/", base + "/bulk"), configuration, MojangServerSkinSource.NONE);
+
+        // Past the refresh interval (75% of the 6 h TTL), still within the TTL.
+        long staleWrittenAt = System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(300);
+        cache.getUniqueIdentifierToNameMap().restore(PLAYER_ID, PLAYER_NAME, staleWrittenAt);
+
+        // The first refresh fails inside the service, which resolves it to null rather than failing the future.
+        assertEquals(PLAYER_NAME, flaky.getName(PLAYER_ID).get(5, TimeUnit.SECONDS));
+        waitUntil(() -> requestCount.get() == 1);
+
+        // A later hit must be allowed to start another refresh, which succeeds.
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!"Jeb".equals(cache.getUniqueIdentifierToNameMap().get(PLAYER_ID)) && System.nanoTime() < deadline) {
+            flaky.getName(PLAYER_ID);
+            Thread.sleep(10);
+        }
+        assertEquals("Jeb", cache.getUniqueIdentifierToNameMap().get(PLAYER_ID));
+        assertEquals(2, requestCount.get());
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+
+    @Test
+    void cachedGettersNeverFetch() throws Exception {
+        assertNull(service.getCachedName(PLAYER_ID));
+        assertNull(service.getCachedUUID(PLAYER_NAME));
+        assertNull(service.getCachedSkin(PLAYER_ID));
+        assertEquals(0, requestCount.get());
+
+        releaseResponses.countDown();
+        service.getName(PLAYER_ID).get(5, TimeUnit.SECONDS);
+        service.getSkin(PLAYER_ID).get(5, TimeUnit.SECONDS);
+
+        assertEquals(PLAYER_NAME, service.getCachedName(PLAYER_ID));
+        assertEquals(PLAYER_ID, service.getCachedUUID("NOTCH"));
+        assertEquals("c2ln", service.getCachedSkin(PLAYER_ID).signature());
+        assertEquals(2, requestCount.get());
+    }
+
+    @Test
+    void serverSkinsAreServedBeforeTheNetwork() throws Exception {
+        releaseResponses.countDown();
+        UUID offlineId = UUID.randomUUID();
+        SkinDto onlineSkin = SkinDto.of("b25saW5l", "c2ln");
+        AtomicInteger serverLookups = new AtomicInteger();
+        service = createService(new MojangServiceConfigurationImpl(), onlineSource(onlineSkin, serverLookups));
+
+        assertEquals("b25saW5l", service.getSkin(PLAYER_ID).get(5, TimeUnit.SECONDS).value());
+        assertEquals("b25saW5l", service.getCachedSkin(PLAYER_ID).value());
+        assertEquals(0, requestCount.get());
+
+        // fresh cache hits never ask the server again
+        assertEquals("b25saW5l", service.getSkin(PLAYER_ID).get(5, TimeUnit.SECONDS).value());
+        assertEquals(1, serverLookups.get());
+
+        assertNotNull(service.getSkin(offlineId).get(5, TimeUnit.SECONDS));
+        assertNotNull(service.getSkin(offlineId).get(5, TimeUnit.SECONDS));
+        assertEquals(1, requestCount.get());
+
+        assertEquals(1, service.skinResolutionCount(MojangServiceImpl.SkinTier.ONLINE_PLAYER));
+        assertEquals(0, service.skinResolutionCount(MojangServiceImpl.SkinTier.SERVER_PROFILE_CACHE));
+        assertEquals(2, service.skinResolutionCount(MojangServiceImpl.SkinTier.DEMOCRACY_CACHE));
+        assertEquals(1, service.skinResolutionCount(MojangServiceImpl.SkinTier.NETWORK));
+    }
+
+    @Test
+    void staleSkinIsRevalidatedFromTheServer() throws Exception {
+        releaseResponses.countDown();
+        SkinDto onlineSkin = SkinDto.of("b25saW5l", "c2ln");
+        AtomicInteger serverLookups = new AtomicInteger();
+        MojangServiceConfigurationImpl configuration = new MojangServiceConfigurationImpl();
+        MojangServiceDemocracyCacheImpl cache = new MojangServiceDemocracyCacheImpl(executor, configuration);
+        String base = "http://127.0.0.1:" + server.getAddress().getPort();
+        service = new MojangServiceImpl<>(stubPlugin(), cache, new MojangRequestCoalescer(),
+                new MojangRateLimiter(configuration), HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build(),
+                new MojangEndpoints(base + "/session/", base + "/profiles/", base + "/bulk"), configuration,
+                onlineSource(onlineSkin, serverLookups));
+
+        // Past the refresh interval (75% of the 1 h TTL), still within the TTL.
+        long staleWrittenAt = System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(50);
+        cache.getUniqueIdentifierToSkinMap().restore(PLAYER_ID, onlineSkin, staleWrittenAt);
+
+        assertEquals("b25saW5l", service.getSkin(PLAYER_ID).get(5, TimeUnit.SECONDS).value());
+        assertEquals("b25saW5l", service.getSkin(PLAYER_ID).get(5, TimeUnit.SECONDS).value());
+
+        // revalidated once from the server, which renewed the entry
+        assertEquals(1, serverLookups.get());
+        assertEquals(0, requestCount.get());
+    }
+
+    private static MojangServerSkinSource onlineSource(SkinDto onlineSkin, AtomicInteger lookups) {
+        return new MojangServerSkinSource() {
+            @Override
+            public SkinDto onlinePlayerSkin(UUID uniqueIdentifier) {
+                lookups.incrementAndGet();
+                return uniqueIdentifier.equals(PLAYER_ID) ? onlineSkin : null;
+            }
+
+            @Override
+            public SkinDto cachedProfileSkin(UUID uniqueIdentifier) {
+                return null;
+            }
+        };
+    }
+
+    @Test
+    void bulkLookupSendsUncachedNamesInChunksOfTen() throws Exception {
+        releaseResponses.countDown();
+        UUID cachedId = UUID.randomUUID();
+        service.getCache().getNameToUniqueIdentifierMap().put("cached", cachedId);
+
+        List<String> names = new ArrayList<>();
+        names.add("Cached");
+        for (int i = 0; i < 25; i++) {
+            names.add("Player" + i);
+        }
+
+        Map<String, UUID> result = service.getUUIDs(names).get(5, TimeUnit.SECONDS);
+
+        assertEquals(cachedId, result.get("Cached"));
+        assertEquals(bulkProfileId("player7"), result.get("Player7"));
+        assertEquals(26, result.size());
+        assertEquals(3, requestCount.get(), "25 uncached names must be sent as three bulk requests");
+        assertEquals(bulkProfileId("player24"), service.getCache().getNameToUniqueIdentifierMap().get("player24"));
+    }
+
+    @Test
+    void batchingAggregatesSingleLookupsIntoBulkRequests() throws Exception {
+        releaseResponses.countDown();
+        service = createService(new MojangServiceConfigurationImpl() {
+            @Override
+            public boolean isUuidBatchingEnabled() {
+                return true;
+            }
+
+            @Override
+            public long getUuidBatchWindowMillis() {
+                return 200;
+            }
+        });
+
+        List<CompletableFuture<UUID>> results = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            results.add(service.getUUID("Player" + i));
+        }
+
+        for (int i = 0; i < 25; i++) {
+            assertEquals(bulkProfileId("player" + i), results.get(i).get(5, TimeUnit.SECONDS));
+        }
+        // two full batches flush immediately, the last 5 names flush when the window closes
+        assertEquals(3, requestCount.get());
+    }
+
+    @Test
+    void unknownNameIsRememberedUntilItExpires() throws Exception {
+        releaseResponses.countDown();
+
+        assertNull(service.getUUID("Ghost").get(5, TimeUnit.SECONDS));
+        assertNull(service.getUUID("Ghost").get(5, TimeUnit.SECONDS));
+        assertEquals(1, requestCount.get(), "a known-missing name must not be looked up again");
+        assertTrue(service.getCache().getUnknownNames().contains("ghost"));
+        assertEquals(0, service.getCache().getNameToUniqueIdentifierMap().size(), "misses must not occupy the positive cache");
+    }
+
+    @Test
+    void rateLimitedLookupFailsInsteadOfLookingUnknown() {
+        releaseResponses.countDown();
+        service = createService(new MojangServiceConfigurationImpl() {
+            @Override
+            public int getRateLimitMaxRetries() {
+                return 0;
+            }
+        });
+
+        ExecutionException failure = assertThrows(ExecutionException.class,
+                () -> service.getUUID("Limited").get(5, TimeUnit.SECONDS));
+        assertInstanceOf(MojangRateLimitedException.class, failure.getCause());
+        assertEquals(1, requestCount.get());
+        assertFalse(service.getCache().getUnknownNames().contains("limited"));
+    }
+
+    private <T> List<CompletableFuture<T>> callConcurrently(Callable<CompletableFuture<T>> call) throws Exception {
+        ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<CompletableFuture<T>>> submitted = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                submitted.add(callers.submit(() -> {
+                    start.await();
+                    return call.call();
+                }));
+            }
+            start.countDown();
+
+            List<CompletableFuture<T>> results = new ArrayList<>();
+            for (Future<CompletableFuture<T>> future : submitted) {
+                results.add(future.get(5, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            callers.shutdown();
+        }
+    }
+
+    private void respond(HttpExchange exchange, String body) throws IOException {
+        requestCount.incrementAndGet();
+        try {
+            // Hold every response until all callers have issued their lookup.
+            releaseResponses.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private void respondStatus(HttpExchange exchange, int status) throws IOException {
+        requestCount.incrementAndGet();
+        exchange.sendResponseHeaders(status, -1);
+        exchange.close();
+    }
+
+    private void respondBulk(HttpExchange exchange) throws IOException {
+        JsonArray requested = JsonParser.parseString(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8)).getAsJsonArray();
+        assertTrue(requested.size() <= 10, "bulk endpoint accepts at most 10 names");
+
+        JsonArray profiles = new JsonArray();
+        for (JsonElement name : requested) {
+            JsonObject profile = new JsonObject();
+            profile.addProperty("id", bulkProfileId(name.getAsString()).toString().replace("-", ""));
+            profile.addProperty("name", name.getAsString());
+            profiles.add(profile);
+        }
+        respond(exchange, profiles.toString());
+    }
+
+    private static UUID bulkProfileId(String name) {
+        return UUID.nameUUIDFromBytes(name.toLowerCase().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Plugin stubPlugin() {
+        Logger logger = Logger.getLogger("MojangServiceImplTest");
+        return (Plugin) Proxy.newProxyInstance(
+                Plugin.class.getClassLoader(),
+                new Class<?>[]{Plugin.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getName" -> "TestPlugin";
+                    case "getLogger" -> logger;
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "TestPlugin";
+                    default -> null;
+                }
+        );
+    }
+}